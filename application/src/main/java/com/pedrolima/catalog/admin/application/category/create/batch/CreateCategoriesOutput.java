@@ -0,0 +1,25 @@
+package com.pedrolima.catalog.admin.application.category.create.batch;
+
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryOutput;
+import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+// One result per command, in the same order the commands were received
+public record CreateCategoriesOutput(
+        List<Either<Notification, CreateCategoryOutput>> items
+) {
+
+    public static CreateCategoriesOutput from(final List<Either<Notification, CreateCategoryOutput>> items) {
+        return new CreateCategoriesOutput(items);
+    }
+
+    public long created() {
+        return items.stream().filter(Either::isRight).count();
+    }
+
+    public long failed() {
+        return items.size() - created();
+    }
+}
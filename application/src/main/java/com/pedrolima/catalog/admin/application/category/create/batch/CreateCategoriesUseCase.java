@@ -0,0 +1,11 @@
+package com.pedrolima.catalog.admin.application.category.create.batch;
+
+import com.pedrolima.catalog.admin.application.UseCase;
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryCommand;
+
+import java.util.List;
+
+public abstract class CreateCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, CreateCategoriesOutput> {
+
+}
@@ -0,0 +1,79 @@
+package com.pedrolima.catalog.admin.application.category.create.batch;
+
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryOutput;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize, final int maxItems) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than 0");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public CreateCategoriesOutput execute(final List<CreateCategoryCommand> aCommands) {
+        if (aCommands.size() > maxItems) {
+            throw DomainException.with(new Error("'categories' should have at most %d categories".formatted(maxItems)));
+        }
+
+        final var items = new ArrayList<Either<Notification, CreateCategoryOutput>>(
+                Collections.nCopies(aCommands.size(), null)
+        );
+        final var validIndexes = new ArrayList<Integer>();
+        final var validCategories = new ArrayList<Category>();
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var notification = Notification.create();
+
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                items.set(i, Left(notification));
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        // Every chunk is persisted in its own transaction, a failing chunk does not roll back the ones before it
+        for (int from = 0; from < validCategories.size(); from += chunkSize) {
+            final var to = Math.min(from + chunkSize, validCategories.size());
+            final var chunk = List.copyOf(validCategories.subList(from, to));
+            final var created = Try(() -> this.categoryGateway.createAll(chunk)).toEither();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                final var position = i;
+                items.set(validIndexes.get(from + i), created.bimap(
+                        Notification::create,
+                        categories -> CreateCategoryOutput.from(categories.get(position))
+                ));
+            }
+        }
+
+        return CreateCategoriesOutput.from(items);
+    }
+}
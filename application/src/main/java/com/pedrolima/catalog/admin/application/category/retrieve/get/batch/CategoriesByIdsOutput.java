@@ -0,0 +1,16 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.get.batch;
+
+import com.pedrolima.catalog.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.util.List;
+
+// Found categories in the requested order, plus the requested ids that were not found
+public record CategoriesByIdsOutput(
+        List<CategoryOutput> items,
+        List<String> missing
+) {
+
+    public static CategoriesByIdsOutput from(final List<CategoryOutput> items, final List<String> missing) {
+        return new CategoriesByIdsOutput(items, missing);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.get.batch;
+
+import com.pedrolima.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxIds;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway, final int maxIds) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.maxIds = maxIds;
+    }
+
+    // Repeated ids are answered once, at their first position
+    @Override
+    public CategoriesByIdsOutput execute(final List<String> anIds) {
+        final var ids = anIds != null
+                ? anIds.stream().filter(Objects::nonNull).map(CategoryID::from).distinct().toList()
+                : List.<CategoryID>of();
+
+        if (ids.size() > maxIds) {
+            throw DomainException.with(new Error("'ids' should have at most %d ids".formatted(maxIds)));
+        }
+        if (ids.isEmpty()) {
+            return CategoriesByIdsOutput.from(List.of(), List.of());
+        }
+
+        final var found = this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        final var items = new ArrayList<CategoryOutput>(found.size());
+        final var missing = new ArrayList<String>();
+        for (final var anId : ids) {
+            final var aCategory = found.get(anId);
+            if (aCategory != null) {
+                items.add(CategoryOutput.from(aCategory));
+            } else {
+                missing.add(anId.getValue());
+            }
+        }
+
+        return CategoriesByIdsOutput.from(items, missing);
+    }
+}
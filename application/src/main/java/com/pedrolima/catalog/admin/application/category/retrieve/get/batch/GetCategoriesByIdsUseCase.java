@@ -0,0 +1,9 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.get.batch;
+
+import com.pedrolima.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, CategoriesByIdsOutput> {
+
+}
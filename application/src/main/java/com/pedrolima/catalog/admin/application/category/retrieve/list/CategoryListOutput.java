@@ -2,6 +2,7 @@ package com.pedrolima.catalog.admin.application.category.retrieve.list;
 
 import com.pedrolima.catalog.admin.domain.category.Category;
 import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -9,8 +10,9 @@ public record CategoryListOutput(
         CategoryID id,
         String name,
         String description,
-        boolean isActive,
+        Boolean isActive,
         Instant createdAt,
+        Instant updatedAt,
         Instant deletedAt
 ) {
 
@@ -21,7 +23,20 @@ public record CategoryListOutput(
                 aCategory.getDescription(),
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
                 aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategorySummary aCategory) {
+        return new CategoryListOutput(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        );
+    }
 }
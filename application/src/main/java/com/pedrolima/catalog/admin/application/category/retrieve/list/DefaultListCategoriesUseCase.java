@@ -16,6 +16,11 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+        if (aQuery.hasFields()) {
+            return this.categoryGateway.findAllSummaries(aQuery)
+                    .map(CategoryListOutput::from);
+        }
+
         return this.categoryGateway.findAll(aQuery)
                 .map(CategoryListOutput::from);
     }
@@ -0,0 +1,14 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.suggest;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+
+public record CategorySuggestionOutput(
+        CategoryID id,
+        String name
+) {
+
+    public static CategorySuggestionOutput from(final CategorySummary aCategory) {
+        return new CategorySuggestionOutput(aCategory.id(), aCategory.name());
+    }
+}
@@ -0,0 +1,32 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.suggest;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxLimit;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryGateway categoryGateway, final int maxLimit) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.maxLimit = maxLimit;
+    }
+
+    // A blank prefix suggests the first active categories by name
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestCategoriesCommand aCommand) {
+        if (aCommand.limit() < 1 || aCommand.limit() > maxLimit) {
+            throw DomainException.with(new Error("'limit' should be between 1 and %d".formatted(maxLimit)));
+        }
+
+        final var prefix = aCommand.prefix() != null ? aCommand.prefix() : "";
+        return this.categoryGateway.findSuggestions(prefix, aCommand.limit()).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
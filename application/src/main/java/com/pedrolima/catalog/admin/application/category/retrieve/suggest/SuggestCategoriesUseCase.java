@@ -0,0 +1,9 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.suggest;
+
+import com.pedrolima.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase extends UseCase<SuggestCategoriesCommand, List<CategorySuggestionOutput>> {
+
+}
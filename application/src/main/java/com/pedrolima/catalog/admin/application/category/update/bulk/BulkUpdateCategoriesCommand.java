@@ -0,0 +1,30 @@
+package com.pedrolima.catalog.admin.application.category.update.bulk;
+
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+
+import java.util.List;
+
+public record BulkUpdateCategoriesCommand(
+        String action,
+        String terms,
+        CategorySearchFilter filter,
+        List<String> ids
+) {
+
+    public static BulkUpdateCategoriesCommand with(
+            final String anAction,
+            final String aTerms,
+            final List<String> anIds
+    ) {
+        return new BulkUpdateCategoriesCommand(anAction, aTerms, null, anIds);
+    }
+
+    public static BulkUpdateCategoriesCommand with(
+            final String anAction,
+            final String aTerms,
+            final CategorySearchFilter aFilter,
+            final List<String> anIds
+    ) {
+        return new BulkUpdateCategoriesCommand(anAction, aTerms, aFilter, anIds);
+    }
+}
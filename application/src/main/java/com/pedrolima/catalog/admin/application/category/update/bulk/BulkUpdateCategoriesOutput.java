@@ -0,0 +1,13 @@
+package com.pedrolima.catalog.admin.application.category.update.bulk;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+
+public record BulkUpdateCategoriesOutput(
+        CategoryBulkAction action,
+        long affected
+) {
+
+    public static BulkUpdateCategoriesOutput from(final CategoryBulkAction anAction, final long affected) {
+        return new BulkUpdateCategoriesOutput(anAction, affected);
+    }
+}
@@ -0,0 +1,10 @@
+package com.pedrolima.catalog.admin.application.category.update.bulk;
+
+import com.pedrolima.catalog.admin.application.UseCase;
+import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class BulkUpdateCategoriesUseCase
+        extends UseCase<BulkUpdateCategoriesCommand, Either<Notification, BulkUpdateCategoriesOutput>> {
+
+}
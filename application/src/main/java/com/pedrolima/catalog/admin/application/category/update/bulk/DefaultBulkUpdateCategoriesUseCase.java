@@ -0,0 +1,59 @@
+package com.pedrolima.catalog.admin.application.category.update.bulk;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultBulkUpdateCategoriesUseCase extends BulkUpdateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkUpdateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, BulkUpdateCategoriesOutput> execute(final BulkUpdateCategoriesCommand aCommand) {
+        final var notification = Notification.create();
+
+        final var anAction = CategoryBulkAction.of(aCommand.action());
+        if (anAction.isEmpty()) {
+            notification.append(new Error("'action' should be one of ACTIVATE, DEACTIVATE or DELETE"));
+        }
+
+        // An empty search would touch every category, so either ids or some search criteria are mandatory
+        final var hasIds = aCommand.ids() != null && !aCommand.ids().isEmpty();
+        final var hasTerms = aCommand.terms() != null && !aCommand.terms().isBlank();
+        final var hasFilter = aCommand.filter() != null && !aCommand.filter().isEmpty();
+        if (hasIds == (hasTerms || hasFilter)) {
+            notification.append(new Error("either 'ids' or 'search'/'filter' should be informed, not both"));
+        }
+
+        if (notification.hasErrors()) {
+            return Left(notification);
+        }
+
+        final var action = anAction.get();
+        return Try(() -> hasIds
+                ? this.categoryGateway.bulkUpdate(action, aCommand.ids().stream().map(CategoryID::from).toList())
+                : this.categoryGateway.bulkUpdate(action, filterOf(aCommand.terms(), aCommand.filter())))
+                .toEither()
+                .bimap(Notification::create, affected -> BulkUpdateCategoriesOutput.from(action, affected));
+    }
+
+    // Only the terms and the typed criteria take part in a bulk filter, paging and sorting do not apply
+    private static CategorySearchQuery filterOf(final String terms, final CategorySearchFilter aFilter) {
+        return new CategorySearchQuery(0, 0, terms, "name", "asc", null, false, Set.of(), aFilter);
+    }
+}
@@ -0,0 +1,144 @@
+package com.pedrolima.catalog.admin.application.category.create.batch;
+
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanup() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategories_shouldPersistThemInChunks() {
+        final var expectedChunkSize = 2;
+        final var expectedCreated = 5;
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentaries", null, true),
+                CreateCategoryCommand.with("Kids", null, false),
+                CreateCategoryCommand.with("Sports", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultCreateCategoriesUseCase(categoryGateway, expectedChunkSize, 10);
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedCreated, actualOutput.created());
+        Assertions.assertEquals(0, actualOutput.failed());
+        Assertions.assertEquals(aCommands.size(), actualOutput.items().size());
+        actualOutput.items().forEach(anItem -> Assertions.assertNotNull(anItem.get().id()));
+
+        verify(categoryGateway, times(3)).createAll(any());
+        verify(categoryGateway, times(2)).createAll(argThat(aChunk -> aChunk.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(aChunk -> aChunk.size() == 1));
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallsCreateCategories_shouldReturnItsNotificationAndCreateTheOthers() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedCreated = 2;
+        final var expectedFailed = 1;
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 10, 10);
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(expectedCreated, actualOutput.created());
+        Assertions.assertEquals(expectedFailed, actualOutput.failed());
+        Assertions.assertTrue(actualOutput.items().get(0).isRight());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.items().get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(argThat(aChunk -> aChunk.size() == 2
+                && "Movies".equals(aChunk.get(0).getName())
+                && "Series".equals(aChunk.get(1).getName())));
+    }
+
+    @Test
+    public void givenAChunk_whenGatewayThrowsRandomException_shouldFailOnlyThatChunk() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Kids", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 2, 10);
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(2, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(2).getLeft().firstError().message());
+    }
+
+    @Test
+    public void givenNoValidCommand_whenCallsCreateCategories_shouldNotCallGateway() {
+        final var aCommands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        final var useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 10, 10);
+        final var actualOutput = useCase.execute(aCommands);
+
+        Assertions.assertEquals(0, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenMoreCommandsThanTheLimit_whenCallsCreateCategories_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'categories' should have at most 2 categories";
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Kids", null, true)
+        );
+
+        final var useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 10, 2);
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aCommands));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.get.batch;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanup() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenIds_whenCallsGetCategoriesByIds_shouldReturnFoundInRequestOrderAndMissingIds() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var unknownId = CategoryID.unique().getValue();
+
+        final var ids = List.of(series.getId().getValue(), unknownId, movies.getId().getValue(), series.getId().getValue());
+        final var expectedLookup = List.of(series.getId(), CategoryID.from(unknownId), movies.getId());
+
+        when(categoryGateway.findAllByIds(expectedLookup))
+                .thenReturn(List.of(movies.clone(), series.clone()));
+
+        final var useCase = new DefaultGetCategoriesByIdsUseCase(categoryGateway, 10);
+        final var actualOutput = useCase.execute(ids);
+
+        Assertions.assertEquals(List.of(series.getId(), movies.getId()), actualOutput.items().stream().map(anItem -> anItem.id()).toList());
+        Assertions.assertEquals("Series", actualOutput.items().get(0).name());
+        Assertions.assertEquals(List.of(unknownId), actualOutput.missing());
+
+        verify(categoryGateway, times(1)).findAllByIds(expectedLookup);
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetCategoriesByIds_shouldReturnEmptyWithoutCallingGateway() {
+        final var useCase = new DefaultGetCategoriesByIdsUseCase(categoryGateway, 10);
+        final var actualOutput = useCase.execute(List.of());
+
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+        Assertions.assertTrue(actualOutput.missing().isEmpty());
+
+        verify(categoryGateway, times(0)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenMoreIdsThanTheLimit_whenCallsGetCategoriesByIds_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' should have at most 2 ids";
+        final var ids = List.of(
+                CategoryID.unique().getValue(),
+                CategoryID.unique().getValue(),
+                CategoryID.unique().getValue()
+        );
+
+        final var useCase = new DefaultGetCategoriesByIdsUseCase(categoryGateway, 2);
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(categoryGateway, times(0)).findAllByIds(any());
+    }
+}
@@ -3,6 +3,7 @@ package com.pedrolima.catalog.admin.application.category.retrieve.list;
 import com.pedrolima.catalog.admin.domain.category.Category;
 import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
 import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +14,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -92,6 +97,32 @@ public class ListCategoriesUseCaseTest {
         Assertions.assertEquals(categories.size(), actualResult.total());
     }
 
+    @Test
+    public void givenAQueryWithFields_whenCallsListCategories_thenShouldReturnSummaries() {
+        final var aCategory = Category.newCategory("Movies", "The most watched", true);
+        final var summaries = List.of(
+                new CategorySummary(aCategory.getId(), aCategory.getName(), null, null, null, null, null)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+
+        final var aQuery = new CategorySearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, true, Set.of("name"));
+
+        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, summaries.size(), summaries);
+
+        when(categoryGateway.findAllSummaries(aQuery)).thenReturn(expectedPagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(aCategory.getId(), actualResult.items().get(0).id());
+        Assertions.assertEquals(aCategory.getName(), actualResult.items().get(0).name());
+        Assertions.assertNull(actualResult.items().get(0).description());
+        Assertions.assertNull(actualResult.items().get(0).isActive());
+        verify(categoryGateway, never()).findAll(any());
+    }
+
     @Test
     public void givenAValidQuery_whenGatewayThrowsException_shouldReturnException() {
         final var expectedPage = 0;
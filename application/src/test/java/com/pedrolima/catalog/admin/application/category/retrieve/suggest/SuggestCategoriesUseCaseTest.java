@@ -0,0 +1,77 @@
+package com.pedrolima.catalog.admin.application.category.retrieve.suggest;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanup() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_shouldReturnTheGatewaySuggestions() {
+        final var moviesId = CategoryID.unique();
+        final var musicId = CategoryID.unique();
+
+        when(categoryGateway.findSuggestions("mu", 5)).thenReturn(List.of(
+                new CategorySummary(moviesId, "Movies", null, null, null, null, null),
+                new CategorySummary(musicId, "Music", null, null, null, null, null)
+        ));
+
+        final var useCase = new DefaultSuggestCategoriesUseCase(categoryGateway, 50);
+        final var actualOutput = useCase.execute(SuggestCategoriesCommand.with("mu", 5));
+
+        Assertions.assertEquals(
+                List.of(new CategorySuggestionOutput(moviesId, "Movies"), new CategorySuggestionOutput(musicId, "Music")),
+                actualOutput
+        );
+        verify(categoryGateway, times(1)).findSuggestions("mu", 5);
+    }
+
+    @Test
+    public void givenANullPrefix_whenCallsSuggestCategories_shouldAskForABlankOne() {
+        when(categoryGateway.findSuggestions("", 10)).thenReturn(List.of());
+
+        final var useCase = new DefaultSuggestCategoriesUseCase(categoryGateway, 50);
+        final var actualOutput = useCase.execute(SuggestCategoriesCommand.with(null, 10));
+
+        Assertions.assertTrue(actualOutput.isEmpty());
+        verify(categoryGateway, times(1)).findSuggestions("", 10);
+    }
+
+    @Test
+    public void givenALimitOutOfRange_whenCallsSuggestCategories_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'limit' should be between 1 and 50";
+        final var useCase = new DefaultSuggestCategoriesUseCase(categoryGateway, 50);
+
+        final var tooLow = Assertions.assertThrows(DomainException.class, () -> useCase.execute(SuggestCategoriesCommand.with("mu", 0)));
+        final var tooHigh = Assertions.assertThrows(DomainException.class, () -> useCase.execute(SuggestCategoriesCommand.with("mu", 51)));
+
+        Assertions.assertEquals(expectedErrorMessage, tooLow.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, tooHigh.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).findSuggestions(anyString(), anyInt());
+    }
+}
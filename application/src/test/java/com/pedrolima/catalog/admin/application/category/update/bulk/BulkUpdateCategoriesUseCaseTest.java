@@ -0,0 +1,167 @@
+package com.pedrolima.catalog.admin.application.category.update.bulk;
+
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkUpdateCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkUpdateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanup() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAnIdList_whenCallsBulkUpdate_shouldReturnAffectedCount() {
+        final var expectedAction = CategoryBulkAction.DEACTIVATE;
+        final var expectedAffected = 2L;
+        final var expectedIds = List.of(CategoryID.unique(), CategoryID.unique());
+
+        final var aCommand = BulkUpdateCategoriesCommand.with(
+                "deactivate",
+                null,
+                expectedIds.stream().map(CategoryID::getValue).toList()
+        );
+
+        when(categoryGateway.bulkUpdate(eq(expectedAction), anyList()))
+                .thenReturn(expectedAffected);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedAction, actualOutput.action());
+        Assertions.assertEquals(expectedAffected, actualOutput.affected());
+
+        verify(categoryGateway, times(1)).bulkUpdate(eq(expectedAction), eq(expectedIds));
+    }
+
+    @Test
+    public void givenSearchTerms_whenCallsBulkUpdate_shouldReturnAffectedCount() {
+        final var expectedAction = CategoryBulkAction.DELETE;
+        final var expectedTerms = "movies";
+        final var expectedAffected = 10L;
+
+        final var aCommand = BulkUpdateCategoriesCommand.with("DELETE", expectedTerms, null);
+
+        when(categoryGateway.bulkUpdate(eq(expectedAction), any(CategorySearchQuery.class)))
+                .thenReturn(expectedAffected);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedAction, actualOutput.action());
+        Assertions.assertEquals(expectedAffected, actualOutput.affected());
+
+        verify(categoryGateway, times(1)).bulkUpdate(
+                eq(expectedAction),
+                argThat((CategorySearchQuery aQuery) -> Objects.equals(expectedTerms, aQuery.terms()))
+        );
+    }
+
+    @Test
+    public void givenATypedFilter_whenCallsBulkUpdate_shouldPassItToTheGateway() {
+        final var expectedAction = CategoryBulkAction.DEACTIVATE;
+        final var expectedAffected = 5L;
+        final var createdTo = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedFilter = new CategorySearchFilter(true, null, createdTo, null, null, null, null, null);
+
+        final var aCommand = BulkUpdateCategoriesCommand.with("deactivate", null, expectedFilter, null);
+
+        when(categoryGateway.bulkUpdate(eq(expectedAction), any(CategorySearchQuery.class)))
+                .thenReturn(expectedAffected);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedAffected, actualOutput.affected());
+
+        verify(categoryGateway, times(1)).bulkUpdate(
+                eq(expectedAction),
+                argThat((CategorySearchQuery aQuery) -> expectedFilter.equals(aQuery.filter()))
+        );
+    }
+
+    @Test
+    public void givenIdsAndATypedFilter_whenCallsBulkUpdate_shouldReturnNotification() {
+        final var expectedErrorMessage = "either 'ids' or 'search'/'filter' should be informed, not both";
+
+        final var aFilter = new CategorySearchFilter(false, null, null, null, null, null, null, null);
+        final var aCommand = BulkUpdateCategoriesCommand.with("delete", null, aFilter, List.of(CategoryID.unique().getValue()));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenAnInvalidAction_whenCallsBulkUpdate_shouldReturnNotification() {
+        final var expectedErrorMessage = "'action' should be one of ACTIVATE, DEACTIVATE or DELETE";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = BulkUpdateCategoriesCommand.with("archive", "movies", null);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenNoFilter_whenCallsBulkUpdate_shouldReturnNotification() {
+        final var expectedErrorMessage = "either 'ids' or 'search'/'filter' should be informed, not both";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = BulkUpdateCategoriesCommand.with("activate", " ", List.of());
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenGatewayThrowsRandomException_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = BulkUpdateCategoriesCommand.with("activate", null, List.of(CategoryID.unique().getValue()));
+
+        when(categoryGateway.bulkUpdate(any(), anyList()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -0,0 +1,16 @@
+package com.pedrolima.catalog.admin.domain.category;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CategoryBulkAction {
+    ACTIVATE,
+    DEACTIVATE,
+    DELETE;
+
+    public static Optional<CategoryBulkAction> of(final String anAction) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(anAction))
+                .findFirst();
+    }
+}
@@ -2,17 +2,32 @@ package com.pedrolima.catalog.admin.domain.category;
 
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
     Category update(Category aCategory);
 
+    // Found categories only, in the order of the given ids
+    List<Category> findAllByIds(List<CategoryID> anIds);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    Pagination<CategorySummary> findAllSummaries(CategorySearchQuery aQuery);
+
+    // Active categories whose normalized name starts with the (normalized) prefix, in name order, id and name only
+    List<CategorySummary> findSuggestions(String aPrefix, int limit);
+
+    long bulkUpdate(CategoryBulkAction anAction, CategorySearchQuery aFilter);
+
+    long bulkUpdate(CategoryBulkAction anAction, List<CategoryID> anIds);
 }
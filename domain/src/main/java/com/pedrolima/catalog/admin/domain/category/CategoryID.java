@@ -1,33 +1,92 @@
 package com.pedrolima.catalog.admin.domain.category;
 
 import com.pedrolima.catalog.admin.domain.Identifier;
+import com.pedrolima.catalog.admin.domain.utils.IdUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.UUID;
 
+// Holds the 128 bits of a UUID in two longs, the canonical string is only built (once) when asked for.
+// Values that are not UUIDs (e.g. ids received from clients) are kept as they are and never equal a UUID id.
 public class CategoryID extends Identifier {
 
-    private final String value;
+    private static final int CANONICAL_LENGTH = 36;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
 
-    private CategoryID(String value) {
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean uuid;
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits, final boolean uuid, final String value) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.uuid = uuid;
         this.value = value;
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.uuidV7());
     }
 
-    public static CategoryID from(String anId) {
-        return new CategoryID(anId);
+    public static CategoryID from(final String anId) {
+        if (anId == null || anId.length() != CANONICAL_LENGTH
+                || anId.charAt(8) != '-' || anId.charAt(13) != '-' || anId.charAt(18) != '-' || anId.charAt(23) != '-') {
+            return new CategoryID(0, 0, false, anId);
+        }
+
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        boolean lowerCase = true;
+
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+
+            final char c = anId.charAt(i);
+            final int digit = hexValue(c);
+            if (digit < 0) {
+                return new CategoryID(0, 0, false, anId);
+            }
+            lowerCase &= c <= '9' || c >= 'a';
+
+            if (i < 18) {
+                mostSigBits = (mostSigBits << 4) | digit;
+            } else {
+                leastSigBits = (leastSigBits << 4) | digit;
+            }
+        }
+
+        // An already canonical input is cached as is, otherwise the lower-cased form is built on demand
+        return new CategoryID(mostSigBits, leastSigBits, true, lowerCase ? anId : null);
     }
 
-    public static CategoryID from(UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+    public static CategoryID from(final UUID anId) {
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits(), true, null);
     }
 
     @Override
     public String getValue() {
-        return value;
+        var aValue = this.value;
+        if (aValue == null && uuid) {
+            aValue = format(mostSigBits, leastSigBits);
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    public boolean isUuid() {
+        return uuid;
+    }
+
+    public long getMostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSigBits;
     }
 
     @Override
@@ -35,11 +94,42 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryID that = (CategoryID) o;
-        return Objects.equals(getValue(), that.getValue());
+        if (uuid || that.uuid) {
+            return uuid == that.uuid && mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits;
+        }
+        return Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getValue());
+        return uuid ? Long.hashCode(mostSigBits ^ leastSigBits) : Objects.hashCode(value);
+    }
+
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static String format(final long mostSigBits, final long leastSigBits) {
+        final var chars = new byte[CANONICAL_LENGTH];
+        formatHex(mostSigBits >>> 32, chars, 0, 8);
+        chars[8] = '-';
+        formatHex(mostSigBits >>> 16, chars, 9, 4);
+        chars[13] = '-';
+        formatHex(mostSigBits, chars, 14, 4);
+        chars[18] = '-';
+        formatHex(leastSigBits >>> 48, chars, 19, 4);
+        chars[23] = '-';
+        formatHex(leastSigBits, chars, 24, 12);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void formatHex(long bits, final byte[] chars, final int offset, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
     }
 }
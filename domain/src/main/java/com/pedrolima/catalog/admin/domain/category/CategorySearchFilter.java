@@ -0,0 +1,67 @@
+package com.pedrolima.catalog.admin.domain.category;
+
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+// Typed criteria of a search, null (or empty) ones are not applied. Ranges include their start and exclude their end,
+// names are compared case and accent insensitively.
+public record CategorySearchFilter(
+        Boolean active,
+        Instant createdFrom,
+        Instant createdTo,
+        Instant updatedFrom,
+        Instant updatedTo,
+        String name,
+        String namePrefix,
+        List<CategoryID> ids
+) {
+
+    private static final CategorySearchFilter EMPTY = new CategorySearchFilter(null, null, null, null, null, null, null, List.of());
+
+    public CategorySearchFilter {
+        ids = ids != null ? List.copyOf(ids) : List.of();
+    }
+
+    public static CategorySearchFilter empty() {
+        return EMPTY;
+    }
+
+    public CategorySearchFilter canonical() {
+        return new CategorySearchFilter(
+                active,
+                createdFrom,
+                createdTo,
+                updatedFrom,
+                updatedTo,
+                hasName() ? TextUtils.normalize(name) : null,
+                hasNamePrefix() ? TextUtils.normalize(namePrefix) : null,
+                ids.stream().distinct().toList()
+        );
+    }
+
+    // No criteria at all, every category matches
+    public boolean isEmpty() {
+        return active == null
+                && createdFrom == null
+                && createdTo == null
+                && updatedFrom == null
+                && updatedTo == null
+                && !hasName()
+                && !hasNamePrefix()
+                && !hasIds();
+    }
+
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    public boolean hasNamePrefix() {
+        return namePrefix != null && !namePrefix.isEmpty();
+    }
+
+    public boolean hasIds() {
+        return !ids.isEmpty();
+    }
+}
@@ -1,11 +1,117 @@
 package com.pedrolima.catalog.admin.domain.category;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        boolean withTotal,
+        Set<String> fields,
+        CategorySearchFilter filter
 ) {
 
+    // Each one is backed by a (fields..., id) index, the id is always appended as the tie-breaker
+    public static final List<String> SORTABLE_FIELDS = List.of("name", "createdAt", "updatedAt", "active,name", "active,createdAt");
+
+    // Best matches of the terms first, only served by a search index (it has no index in the database)
+    public static final String RELEVANCE = "relevance";
+
+    public CategorySearchQuery {
+        fields = fields != null ? Set.copyOf(fields) : Set.of();
+        filter = filter != null ? filter : CategorySearchFilter.empty();
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, true, Set.of(), null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, true, Set.of(), null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final boolean withTotal
+    ) {
+        this(page, perPage, terms, sort, direction, after, withTotal, Set.of(), null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final boolean withTotal,
+            final Set<String> fields
+    ) {
+        this(page, perPage, terms, sort, direction, after, withTotal, fields, null);
+    }
+
+    // A multi-field sort is a comma separated list, e.g. "active,name"
+    public List<String> sortFields() {
+        if (sort == null || sort.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(sort.split(",")).map(String::strip).toList();
+    }
+
+    public boolean isSortable() {
+        return SORTABLE_FIELDS.contains(String.join(",", sortFields()));
+    }
+
+    public boolean isByRelevance() {
+        return sortFields().equals(List.of(RELEVANCE));
+    }
+
+    // Same results, same value (e.g. to key a cache): terms and names are compared case insensitively,
+    // blanks around values and sort fields do not matter
+    public CategorySearchQuery canonical() {
+        return new CategorySearchQuery(
+                page,
+                perPage,
+                terms != null ? terms.strip().toLowerCase(Locale.ROOT) : "",
+                String.join(",", sortFields()),
+                direction != null ? direction.toLowerCase(Locale.ROOT) : null,
+                hasCursor() ? after : null,
+                withTotal,
+                fields,
+                filter.canonical()
+        );
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    // Sparse fieldset: only these fields (plus the id) are loaded, empty means every field
+    public boolean hasFields() {
+        return !fields.isEmpty();
+    }
 }
@@ -0,0 +1,27 @@
+package com.pedrolima.catalog.admin.domain.category;
+
+import java.time.Instant;
+
+// Read only view of a category holding only the fields a search asked for, any other field is null
+public record CategorySummary(
+        CategoryID id,
+        String name,
+        String description,
+        Boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static CategorySummary from(final Category aCategory) {
+        return new CategorySummary(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
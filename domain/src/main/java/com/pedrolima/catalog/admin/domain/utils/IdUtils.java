@@ -0,0 +1,26 @@
+package com.pedrolima.catalog.admin.domain.utils;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+
+public final class IdUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private IdUtils() {
+    }
+
+    // RFC 9562 UUIDv7: 48 bits of unix epoch millis, 12 bits of sub-millisecond precision and 62 random bits.
+    // Ids generated later sort after earlier ones, so inserts append to the end of the primary key index.
+    public static UUID uuidV7() {
+        final var now = Instant.now();
+        final var millis = now.toEpochMilli();
+        final var subMillis = (now.getNano() % 1_000_000) * 4096L / 1_000_000;
+
+        final var mostSigBits = (millis << 16) | 0x7000L | subMillis;
+        final var leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pedrolima.catalog.admin.domain.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextUtils {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextUtils() {
+    }
+
+    // Search form of a text: case-folded, without accents (combining marks) and surrounding blanks.
+    // Recomposed after the marks are dropped, so it is never longer than the original text
+    public static String normalize(final String aText) {
+        return aText != null ? fold(aText.strip()) : null;
+    }
+
+    // Case-folded and without accents, but blanks kept (e.g. to match substrings the way a LIKE does)
+    public static String fold(final String aText) {
+        if (aText == null) {
+            return null;
+        }
+        final var decomposed = Normalizer.normalize(aText.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return Normalizer.normalize(COMBINING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+}
@@ -0,0 +1,75 @@
+package com.pedrolima.catalog.admin.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+
+    @Test
+    public void givenNoParams_whenCallsUnique_thenReturnATimeOrderedUUID() {
+        final var expectedVersion = 7;
+        final var expectedVariant = 2;
+
+        final var actualId = UUID.fromString(CategoryID.unique().getValue());
+
+        Assertions.assertEquals(expectedVersion, actualId.version());
+        Assertions.assertEquals(expectedVariant, actualId.variant());
+    }
+
+    @Test
+    public void givenIdsGeneratedInDifferentMillis_whenComparingTheirValues_thenLaterIdSortsAfter() throws Exception {
+        final var anId = CategoryID.unique();
+        Thread.sleep(2);
+        final var aLaterId = CategoryID.unique();
+
+        Assertions.assertTrue(aLaterId.getValue().compareTo(anId.getValue()) > 0);
+    }
+
+    @Test
+    public void givenACanonicalString_whenCallsFrom_thenParseItsBits() {
+        final var expectedUUID = UUID.randomUUID();
+
+        final var actualId = CategoryID.from(expectedUUID.toString());
+
+        Assertions.assertTrue(actualId.isUuid());
+        Assertions.assertEquals(expectedUUID.getMostSignificantBits(), actualId.getMostSignificantBits());
+        Assertions.assertEquals(expectedUUID.getLeastSignificantBits(), actualId.getLeastSignificantBits());
+        Assertions.assertEquals(expectedUUID.toString(), actualId.getValue());
+    }
+
+    @Test
+    public void givenAnUpperCaseString_whenCallsFrom_thenEqualsTheLowerCaseId() {
+        final var expectedUUID = UUID.randomUUID();
+        final var expectedValue = expectedUUID.toString();
+
+        final var actualId = CategoryID.from(expectedValue.toUpperCase());
+
+        Assertions.assertEquals(CategoryID.from(expectedUUID), actualId);
+        Assertions.assertEquals(CategoryID.from(expectedUUID).hashCode(), actualId.hashCode());
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+    }
+
+    @Test
+    public void givenAnUUID_whenCallsFrom_thenFormatsTheCanonicalString() {
+        final var expectedUUID = UUID.randomUUID();
+
+        final var actualId = CategoryID.from(expectedUUID);
+
+        Assertions.assertEquals(expectedUUID.toString(), actualId.getValue());
+        Assertions.assertSame(actualId.getValue(), actualId.getValue());
+    }
+
+    @Test
+    public void givenANonUUIDString_whenCallsFrom_thenKeepsTheValueAsIs() {
+        final var expectedValue = "123";
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertFalse(actualId.isUuid());
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedValue), actualId);
+        Assertions.assertNotEquals(CategoryID.from(new UUID(0, 0)), CategoryID.from("0000000-0000-0000-0000-0000000000000"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.pedrolima.catalog.admin.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class CategorySearchQueryTest {
+
+    @Test
+    public void givenEquivalentQueries_whenCallsCanonical_thenReturnEqualQueries() {
+        final var anId = CategoryID.unique();
+
+        final var aQuery = new CategorySearchQuery(
+                0, 10, "  Movies ", "active, name", "DESC", " ", true, Set.of("name"),
+                new CategorySearchFilter(true, null, null, null, null, null, " MOV", List.of(anId, anId))
+        );
+        final var anotherQuery = new CategorySearchQuery(
+                0, 10, "movies", "active,name", "desc", null, true, Set.of("name"),
+                new CategorySearchFilter(true, null, null, null, null, null, "mov", List.of(anId))
+        );
+
+        Assertions.assertNotEquals(aQuery, anotherQuery);
+        Assertions.assertEquals(aQuery.canonical(), anotherQuery.canonical());
+        Assertions.assertEquals(aQuery.canonical().hashCode(), anotherQuery.canonical().hashCode());
+    }
+
+    @Test
+    public void givenQueriesWithDifferentResults_whenCallsCanonical_thenReturnDifferentQueries() {
+        final var aQuery = new CategorySearchQuery(0, 10, "movies", "name", "asc");
+
+        Assertions.assertNotEquals(aQuery.canonical(), new CategorySearchQuery(1, 10, "movies", "name", "asc").canonical());
+        Assertions.assertNotEquals(aQuery.canonical(), new CategorySearchQuery(0, 10, "movies", "name", "desc").canonical());
+        Assertions.assertNotEquals(aQuery.canonical(), new CategorySearchQuery(0, 10, "series", "name", "asc").canonical());
+    }
+
+    @Test
+    public void givenARelevanceSort_whenCallsIsByRelevance_thenReturnTrueAndNotSortable() {
+        final var aQuery = new CategorySearchQuery(0, 10, "movies", " relevance ", "desc");
+
+        Assertions.assertTrue(aQuery.isByRelevance());
+        Assertions.assertFalse(aQuery.isSortable());
+        Assertions.assertFalse(new CategorySearchQuery(0, 10, "movies", "name", "asc").isByRelevance());
+    }
+}
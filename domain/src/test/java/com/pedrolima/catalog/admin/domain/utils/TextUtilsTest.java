@@ -0,0 +1,31 @@
+package com.pedrolima.catalog.admin.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class TextUtilsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "Movies,movies",
+            "'  A\u00e7\u00e3o ',acao",
+            "Cr\u00e8me Br\u00fbl\u00e9e,creme brulee",
+            "\u00c9T\u00c9,ete",
+            "\ud55c\uad6d \uc601\ud654,\ud55c\uad6d \uc601\ud654"
+    })
+    public void givenAText_whenCallsNormalize_thenReturnItsSearchForm(final String aText, final String expectedText) {
+        Assertions.assertEquals(expectedText, TextUtils.normalize(aText));
+    }
+
+    @Test
+    public void givenANullText_whenCallsNormalize_thenReturnNull() {
+        Assertions.assertNull(TextUtils.normalize(null));
+    }
+
+    @Test
+    public void givenATextWithBlanks_whenCallsFold_thenKeepTheBlanks() {
+        Assertions.assertEquals(" acao ", TextUtils.fold(" A\u00e7\u00e3o "));
+    }
+}
@@ -0,0 +1,88 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Substring search over folded names: scalar and vectorized column scans, and the row by row matching they replace.
+// Run with ./gradlew :infrastructure:jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FoldedTextColumnBenchmark {
+
+    private static final String[] WORDS = {
+            "movies", "series", "documentaries", "anime", "kids", "drama", "comedy", "thriller", "acao", "terror",
+            "classics", "nature", "music", "sports", "news", "reality", "cooking", "travel", "history", "science"
+    };
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"me", "documentar", "no such term"})
+    public String term;
+
+    private String[] names;
+    private FoldedTextColumn column;
+    private Pattern pattern;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new Random(42);
+        names = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+        }
+        column = FoldedTextColumn.of(names);
+        pattern = Pattern.compile(Pattern.quote(term));
+    }
+
+    @Benchmark
+    public BitSet scalarScan() {
+        return column.matching(term, TextScan.SCALAR);
+    }
+
+    @Benchmark
+    public BitSet vectorScan() {
+        return column.matching(term, new VectorTextScan());
+    }
+
+    @Benchmark
+    public BitSet rowByRowContains() {
+        final var matches = new BitSet(rows);
+        for (int i = 0; i < rows; i++) {
+            if (names[i].contains(term)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public BitSet rowByRowPattern() {
+        final var matches = new BitSet(rows);
+        for (int i = 0; i < rows; i++) {
+            if (pattern.matcher(names[i]).find()) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+}
@@ -1,9 +1,14 @@
 package com.pedrolima.catalog.admin.infrastructure.api;
 
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BatchCreateCategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategoriesByIdsResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.MultiGetCategoryRequest;
 import com.pedrolima.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,6 +27,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.time.Instant;
+import java.util.List;
+
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
@@ -39,6 +47,72 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once, reporting the result of each one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, every item holds its id or its validation errors"),
+            @ApiResponse(responseCode = "422", description = "Too many categories were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    BatchCreateCategoryResponse createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "_bulk-update",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Activate, deactivate or delete every category matching a search, a filter or a list of identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Applied successfully, returns the affected count"),
+            @ApiResponse(responseCode = "422", description = "A invalid action or filter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> bulkUpdate(@RequestBody BulkUpdateCategoryRequest input);
+
+    @PostMapping(
+            value = "_multi-get",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get many categories by their identifiers, for lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Retrieved successfully, ids not found are listed as missing"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CategoriesByIdsResponse multiGet(@RequestBody MultiGetCategoryRequest input);
+
+    @GetMapping(
+            params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get many categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Retrieved successfully, ids not found are listed as missing"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CategoriesByIdsResponse getByIds(@RequestParam(name = "ids") final List<String> ids);
+
+    @GetMapping(
+            value = "suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Suggest active categories whose name starts with a prefix, for autocompletion")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully, in name order"),
+            @ApiResponse(responseCode = "422", description = "A invalid limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<CategorySuggestionResponse> suggest(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -51,7 +125,18 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") final boolean withTotal,
+            @RequestParam(name = "fields", required = false, defaultValue = "") final String fields,
+            @RequestParam(name = "active", required = false) final Boolean active,
+            @RequestParam(name = "createdFrom", required = false) final Instant createdFrom,
+            @RequestParam(name = "createdTo", required = false) final Instant createdTo,
+            @RequestParam(name = "updatedFrom", required = false) final Instant updatedFrom,
+            @RequestParam(name = "updatedTo", required = false) final Instant updatedTo,
+            @RequestParam(name = "name", required = false) final String name,
+            @RequestParam(name = "namePrefix", required = false) final String namePrefix,
+            @RequestParam(name = "id", required = false) final List<String> ids
     );
 
     @GetMapping(
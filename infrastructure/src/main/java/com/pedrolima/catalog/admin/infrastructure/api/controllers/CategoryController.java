@@ -3,44 +3,71 @@ package com.pedrolima.catalog.admin.infrastructure.api.controllers;
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.create.batch.CreateCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.GetCategoriesByIdsUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesCommand;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesOutput;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesUseCase;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
 import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
 import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
 import com.pedrolima.catalog.admin.infrastructure.api.CategoryAPI;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BatchCreateCategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategoriesByIdsResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.MultiGetCategoryRequest;
 import com.pedrolima.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.pedrolima.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase;
 
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
 
-    public CategoryController(final CreateCategoryUseCase createCategoryUseCase, final GetCategoryByIdUseCase getCategoryByIdUseCase, final UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase) {
+    public CategoryController(final CreateCategoryUseCase createCategoryUseCase, final CreateCategoriesUseCase createCategoriesUseCase, final GetCategoryByIdUseCase getCategoryByIdUseCase, final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase, final UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase, ListCategoriesUseCase listCategoriesUseCase, SuggestCategoriesUseCase suggestCategoriesUseCase) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.bulkUpdateCategoriesUseCase = Objects.requireNonNull(bulkUpdateCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
     }
 
     public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
@@ -60,16 +87,95 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public BatchCreateCategoryResponse createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommands = input.stream()
+                .map(anItem -> CreateCategoryCommand.with(
+                        anItem.name(),
+                        anItem.description(),
+                        anItem.active() != null ? anItem.active() : true
+                ))
+                .toList();
+
+        return CategoryApiPresenter.present(createCategoriesUseCase.execute(aCommands));
+    }
+
+    @Override
+    public ResponseEntity<?> bulkUpdate(final BulkUpdateCategoryRequest input) {
+        final var aFilter = input.filter() != null
+                ? new CategorySearchFilter(
+                        input.filter().active(),
+                        input.filter().createdFrom(),
+                        input.filter().createdTo(),
+                        input.filter().updatedFrom(),
+                        input.filter().updatedTo(),
+                        input.filter().name(),
+                        input.filter().namePrefix(),
+                        null
+                )
+                : null;
+
+        final var aCommand = BulkUpdateCategoriesCommand.with(
+                input.action(),
+                input.search(),
+                aFilter,
+                input.ids()
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<BulkUpdateCategoriesOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return bulkUpdateCategoriesUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final boolean withTotal,
+            final String fields,
+            final Boolean active,
+            final Instant createdFrom,
+            final Instant createdTo,
+            final Instant updatedFrom,
+            final Instant updatedTo,
+            final String name,
+            final String namePrefix,
+            final List<String> ids
     ) {
-        return listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+        final var aFields = fieldsOf(fields);
+
+        final var aFilter = new CategorySearchFilter(
+                active,
+                createdFrom,
+                createdTo,
+                updatedFrom,
+                updatedTo,
+                name,
+                namePrefix,
+                ids != null ? ids.stream().map(CategoryID::from).toList() : null
+        );
+
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction, after, withTotal, aFields, aFilter);
+        return listCategoriesUseCase.execute(aQuery).map(CategoryApiPresenter::present);
+    }
+
+    // fields=name, active: blanks around the names and empty names are ignored
+    static Set<String> fieldsOf(final String fields) {
+        if (fields == null) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::strip)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -77,6 +183,23 @@ public class CategoryController implements CategoryAPI {
         return CategoryApiPresenter.present(getCategoryByIdUseCase.execute(id));
     }
 
+    @Override
+    public CategoriesByIdsResponse getByIds(final List<String> ids) {
+        return CategoryApiPresenter.present(getCategoriesByIdsUseCase.execute(ids));
+    }
+
+    @Override
+    public List<CategorySuggestionResponse> suggest(final String prefix, final int limit) {
+        return suggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(prefix, limit)).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public CategoriesByIdsResponse multiGet(final MultiGetCategoryRequest input) {
+        return CategoryApiPresenter.present(getCategoriesByIdsUseCase.execute(input.ids()));
+    }
+
     @Override
     public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
@@ -0,0 +1,38 @@
+package com.pedrolima.catalog.admin.infrastructure.api.controllers;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+// Sparse fieldsets of the listing (fields=name,active): the listing keeps returning its typed CategoryListResponse
+// items, only the id and the requested fields of each are written. Unknown fields never get here, the listing
+// rejects them first
+@RestControllerAdvice
+public class SparseFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(
+            final MappingJacksonValue bodyContainer,
+            final MediaType contentType,
+            final MethodParameter returnType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        final var fields = CategoryController.fieldsOf(servletRequest.getServletRequest().getParameter("fields"));
+        if (!fields.isEmpty()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(CategoryListResponse.FIELDS_FILTER, CategoryApiPresenter.fieldsFilter(fields)));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Read-through cache of findById in front of another gateway, searches always reach the delegate.
+// Misses are cached too (for a shorter time), so repeated lookups of a missing id do not reach the database.
+// Not a Spring bean on purpose, see UseCaseConfig
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Optional<Category>> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachedCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new HitOrMissExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return delegate.create(aCategory);
+        } finally {
+            evict(List.of(aCategory.getId()));
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        try {
+            return delegate.createAll(aCategories);
+        } finally {
+            evict(aCategories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            delegate.deleteById(anId);
+        } finally {
+            evict(List.of(anId));
+        }
+    }
+
+    // Categories are mutable, so every caller gets its own copy of the cached one
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return cache.get(anId, delegate::findById).map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return delegate.update(aCategory);
+        } finally {
+            evict(List.of(aCategory.getId()));
+        }
+    }
+
+    // Only the ids not cached yet are loaded, all of them by a single delegate call. The loaded rows are cached one key
+    // at a time under the lock of that key, and only if nothing was evicted since the load started: an eviction
+    // meanwhile may be for a row this load read before a write changed it
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        final var found = new HashMap<>(cache.getAllPresent(anIds));
+        final var missingIds = anIds.stream()
+                .distinct()
+                .filter(anId -> !found.containsKey(anId))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            final var evictionsBefore = evictions.get();
+            final var loaded = new HashMap<CategoryID, Optional<Category>>();
+            missingIds.forEach(anId -> loaded.put(anId, Optional.empty()));
+            delegate.findAllByIds(missingIds).forEach(aCategory -> loaded.put(aCategory.getId(), Optional.of(aCategory)));
+
+            loaded.forEach((anId, aCategory) -> {
+                found.put(anId, aCategory);
+                cache.asMap().computeIfAbsent(anId, key -> evictions.get() == evictionsBefore ? aCategory : null);
+            });
+        }
+
+        return anIds.stream()
+                .distinct()
+                .map(found::get)
+                .flatMap(Optional::stream)
+                .map(Category::with)
+                .toList();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return delegate.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    // The affected ids are not known, so everything goes
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        try {
+            return delegate.bulkUpdate(anAction, aFilter);
+        } finally {
+            evict(null);
+        }
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        try {
+            return delegate.bulkUpdate(anAction, anIds);
+        } finally {
+            evict(anIds);
+        }
+    }
+
+    public Cache<CategoryID, Optional<Category>> cache() {
+        return cache;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Evicts now and again once the surrounding transaction (if any) completes: a concurrent read may load
+    // and cache the old row between the write and its commit. A null list evicts every entry
+    private void evict(final List<CategoryID> anIds) {
+        invalidate(anIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate(anIds);
+                }
+            });
+        }
+    }
+
+    // Counted first: a bulk load checking the count under the lock of a key either sees this eviction, or puts the key
+    // before it is invalidated here
+    private void invalidate(final List<CategoryID> anIds) {
+        evictions.incrementAndGet();
+        if (anIds == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(anIds);
+        }
+    }
+
+    private record HitOrMissExpiry(Duration ttl, Duration negativeTtl) implements Expiry<CategoryID, Optional<Category>> {
+
+        @Override
+        public long expireAfterCreate(final CategoryID key, final Optional<Category> value, final long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final CategoryID key,
+                final Optional<Category> value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final CategoryID key,
+                final Optional<Category> value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.pedrolima.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+
+import java.time.Duration;
+
+// Listing pages cached by canonical query and write generation: any write of this instance makes every
+// cached page unreachable at once. Pages are immutable, so they are shared as they are.
+// With a refresh interval, entries read after it are reloaded in background while the old page is still served,
+// so hot pages never expire in the face of their readers
+public class CachedListCategoriesUseCase extends ListCategoriesUseCase {
+
+    private final CategoryWriteGeneration generation;
+    private final LoadingCache<Key, Pagination<CategoryListOutput>> cache;
+
+    public CachedListCategoriesUseCase(
+            final ListCategoriesUseCase delegate,
+            final CategoryWriteGeneration generation,
+            final long maximumSize,
+            final Duration ttl,
+            final Duration refreshAfter
+    ) {
+        this.generation = generation;
+
+        final var builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats();
+        if (!refreshAfter.isZero() && refreshAfter.compareTo(ttl) < 0) {
+            builder.refreshAfterWrite(refreshAfter);
+        }
+        this.cache = builder.build(key -> delegate.execute(key.query()));
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+        return cache.get(new Key(generation.current(), aQuery.canonical()));
+    }
+
+    public LoadingCache<Key, Pagination<CategoryListOutput>> cache() {
+        return cache;
+    }
+
+    public record Key(long generation, CategorySearchQuery query) {
+    }
+}
@@ -0,0 +1,392 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Feeds what changed in the category table to its listeners (the snapshot, the search index), with one poller for all
+// of them: rows whose updated_at moved since the last poll are read every poll. Rows deleted by other instances leave
+// no updated_at behind, they are found by a reconcile: on the first poll, after bulk writes, after failures and every
+// few polls when configured. A reconcile counts the rows first and only reads the ids when a listener holds another
+// number of rows. Writes of this instance are queued once they commit and fed by the polling thread, in one batch per
+// run: a request thread never waits for a poll nor a listener. No thread is started before the first listener
+// subscribes
+public class CategoryChangeFeed implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryChangeFeed.class);
+
+    private final CategoryRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final Duration pollInterval;
+    private final Duration pollOverlap;
+    private final int reconcileEvery;
+    private final int chunkSize;
+
+    private final List<CategoryChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<Delta> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean runScheduled = new AtomicBoolean();
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+    private final AtomicLong failures = new AtomicLong();
+
+    // Only touched by the polling thread
+    private final List<CategoryChangeListener> unloaded = new ArrayList<>();
+    private Instant watermark; // None until a listener is open
+    private int polls;
+
+    public CategoryChangeFeed(
+            final CategoryRepository repository,
+            final TransactionTemplate transactionTemplate,
+            final Duration pollInterval,
+            final Duration pollOverlap,
+            final int reconcileEvery,
+            final int chunkSize
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.pollInterval = pollInterval;
+        this.pollOverlap = pollOverlap;
+        this.reconcileEvery = Math.max(0, reconcileEvery);
+        this.chunkSize = chunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-changes");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // The listener is opened (or loaded) on the polling thread, the first one starts the polls.
+    // The first poll reconciles the ids, a listener opened from a file may hold rows deleted since it was written
+    public void subscribe(final CategoryChangeListener aListener) {
+        listeners.add(aListener);
+        execute(() -> open(aListener));
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Runs on the polling thread, e.g. to write a listener to disk along with the watermark it is up to date with
+    public void every(final Duration anInterval, final Runnable aTask) {
+        final var interval = anInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                aTask.run();
+            } catch (final RuntimeException ex) {
+                failed("run a task of", ex);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // False when the feed is closed
+    public boolean execute(final Runnable anAction) {
+        try {
+            scheduler.execute(anAction);
+            return true;
+        } catch (final RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    // Runs the action on the polling thread and waits for it, inline once the feed is closed
+    public void await(final Runnable anAction) {
+        try {
+            scheduler.submit(anAction).get();
+        } catch (final RejectedExecutionException ex) {
+            anAction.run();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            failed("run a task of", ex.getCause());
+        }
+    }
+
+    // On the polling thread only: the next poll reads again what changed since (e.g. during a rebuild)
+    public void rewind(final Instant since) {
+        if (watermark == null || since.isBefore(watermark)) {
+            watermark = since;
+        }
+    }
+
+    // The next run of the polling thread reconciles the ids
+    public void requestReconcile() {
+        reconcileRequested.set(true);
+        scheduleRun();
+    }
+
+    // The whole table in id order, one query (and transaction) per chunk
+    public void readAll(final Consumer<List<Category>> aConsumer) {
+        var after = new UUID(0, 0); // Below every id, as BINARY(16) compares unsigned bytes
+        List<CategoryJpaEntity> chunk;
+        do {
+            final var lastId = after;
+            chunk = transactionTemplate.execute(status -> repository.findChunkAfter(lastId, PageRequest.of(0, chunkSize)));
+            aConsumer.accept(chunk.stream().map(CategoryJpaEntity::toAggregate).toList());
+            if (!chunk.isEmpty()) {
+                after = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
+    // Queued once the surrounding transaction (if any) commits, nothing is queued on rollback
+    public void publishAfterCommit(final Collection<Category> upserts, final Collection<CategoryID> removals) {
+        afterCommit(() -> {
+            pending.add(new Delta(List.copyOf(upserts), List.copyOf(removals)));
+            scheduleRun();
+        });
+    }
+
+    // For writes whose affected rows are not known (e.g. bulk updates): the polling thread reads what changed and
+    // reconciles the ids as soon as it can, several requests meanwhile are served by a single run
+    public void reconcileAfterCommit() {
+        afterCommit(this::requestReconcile);
+    }
+
+    // Failed polls and listener updates since the start
+    public long failures() {
+        return failures.get();
+    }
+
+    // No interrupt: an interrupted Lucene write closes its file channels, and with them the index writer
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    // Polls right away on the polling thread and waits for it
+    void pollNow(final boolean reconcile) {
+        await(() -> run(reconcile));
+    }
+
+    // Waits until the polling thread ran what was queued so far, e.g. the writes fed after a commit
+    void awaitPending() {
+        await(() -> {
+        });
+    }
+
+    private void open(final CategoryChangeListener aListener) {
+        try {
+            final var aWatermark = aListener.open();
+            if (aWatermark.isPresent()) {
+                rewind(aWatermark.get());
+                return;
+            }
+        } catch (final IOException | RuntimeException ex) {
+            failed("open a listener of", ex);
+        }
+        load(aListener);
+    }
+
+    // Rows written during the load are read again by the next poll, from the start of the load on.
+    // A failed load is tried again by the next poll
+    private void load(final CategoryChangeListener aListener) {
+        final var startedAt = Instant.now();
+        try {
+            aListener.load(this);
+            unloaded.remove(aListener);
+            rewind(startedAt);
+        } catch (final IOException | RuntimeException ex) {
+            failed("load a listener of", ex);
+            if (!unloaded.contains(aListener)) {
+                unloaded.add(aListener);
+            }
+        }
+    }
+
+    // Periodic reconciles are off with reconcileEvery at 0
+    private void poll() {
+        final var periodic = polls == 0 || (reconcileEvery > 0 && polls % reconcileEvery == 0);
+        polls++;
+        run(periodic || reconcileRequested.getAndSet(false));
+    }
+
+    // A single run for every write queued until it starts
+    private void scheduleRun() {
+        if (runScheduled.compareAndSet(false, true) && !execute(this::runScheduled)) {
+            runScheduled.set(false);
+        }
+    }
+
+    private void runScheduled() {
+        runScheduled.set(false);
+        if (reconcileRequested.getAndSet(false)) {
+            run(true);
+        } else {
+            feedPending();
+        }
+    }
+
+    // Writes queued meanwhile go first, so that the poll can tell which of them another instance overwrote since.
+    // A listener that fails keeps the watermark where it was: the next poll reads the same rows again
+    private void run(final boolean reconcile) {
+        feedPending();
+        List.copyOf(unloaded).forEach(this::load);
+        if (watermark == null) {
+            return;
+        }
+
+        final List<Category> changed;
+        try {
+            // Re-reads a window behind the last seen updated_at: a transaction may commit after rows newer than its own
+            changed = loadUpdatedSince(watermark.minus(pollOverlap));
+        } catch (final RuntimeException ex) {
+            failed("poll", ex);
+            return;
+        }
+
+        final var aListeners = List.copyOf(listeners);
+        final var caughtUp = new ArrayList<CategoryChangeListener>();
+        for (final var aListener : aListeners) {
+            try {
+                aListener.apply(changed, List.of());
+                caughtUp.add(aListener);
+            } catch (final IOException | RuntimeException ex) {
+                failed("feed a listener of", ex);
+            }
+        }
+
+        if (caughtUp.size() == aListeners.size()) {
+            changed.stream()
+                    .map(Category::getUpdatedAt)
+                    .max(Comparator.naturalOrder())
+                    .filter(watermark::isBefore)
+                    .ifPresent(lastUpdatedAt -> watermark = lastUpdatedAt);
+        }
+        if (reconcile && (!reconcile(caughtUp) || caughtUp.size() < aListeners.size())) {
+            reconcileRequested.set(true);
+        }
+        caughtUp.forEach(aListener -> aListener.caughtUp(watermark));
+    }
+
+    // A listener holding as many rows as the table is taken as holding no deleted row, the ids (a scan of the whole
+    // table) are only read, once, for the others. False when it has to run again
+    private boolean reconcile(final List<CategoryChangeListener> aListeners) {
+        final long stored;
+        try {
+            stored = transactionTemplate.execute(status -> repository.count());
+        } catch (final RuntimeException ex) {
+            failed("count the rows of", ex);
+            return false;
+        }
+
+        var reconciled = true;
+        Set<CategoryID> storedIds = null;
+        for (final var aListener : aListeners) {
+            try {
+                final var size = aListener.size();
+                if (size == 0 || size == stored) {
+                    continue;
+                }
+                if (storedIds == null) {
+                    storedIds = loadIds();
+                }
+                final var removals = new HashSet<>(aListener.ids());
+                removals.removeAll(storedIds);
+                aListener.apply(List.of(), removals);
+            } catch (final IOException | RuntimeException ex) {
+                failed("reconcile a listener of", ex);
+                reconciled = false;
+            }
+        }
+        return reconciled;
+    }
+
+    // Deltas are merged in commit order: a later upsert or removal of the same id wins
+    private void feedPending() {
+        final var upserts = new LinkedHashMap<CategoryID, Category>();
+        final var removals = new LinkedHashSet<CategoryID>();
+        Delta aDelta;
+        while ((aDelta = pending.poll()) != null) {
+            for (final var anId : aDelta.removals()) {
+                upserts.remove(anId);
+                removals.add(anId);
+            }
+            for (final var aCategory : aDelta.upserts()) {
+                removals.remove(aCategory.getId());
+                upserts.put(aCategory.getId(), aCategory);
+            }
+        }
+        if (upserts.isEmpty() && removals.isEmpty()) {
+            return;
+        }
+
+        for (final var aListener : listeners) {
+            try {
+                aListener.apply(upserts.values(), removals);
+            } catch (final IOException | RuntimeException ex) {
+                // Committed already, read again by the next poll (the next reconcile for removals)
+                failed("feed committed writes to a listener of", ex);
+                reconcileRequested.set(true);
+            }
+        }
+    }
+
+    private void failed(final String anAction, final Throwable ex) {
+        failures.incrementAndGet();
+        log.warn("Could not {} the category change feed", anAction, ex);
+    }
+
+    private Set<CategoryID> loadIds() {
+        final var storedIds = new HashSet<CategoryID>();
+        transactionTemplate.execute(status -> repository.findAllIds())
+                .forEach(anId -> storedIds.add(CategoryID.from(anId)));
+        return storedIds;
+    }
+
+    private List<Category> loadUpdatedSince(final Instant since) {
+        return transactionTemplate.execute(status -> repository.findAllUpdatedSince(since).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList());
+    }
+
+    // Nothing to feed before the first listener subscribes
+    private void afterCommit(final Runnable anAction) {
+        if (!started.get()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+
+    private record Delta(List<Category> upserts, List<CategoryID> removals) {
+    }
+}
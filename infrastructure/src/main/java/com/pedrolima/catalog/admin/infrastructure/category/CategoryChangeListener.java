@@ -0,0 +1,34 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+// A local copy of the category table kept up to date by a CategoryChangeFeed. Every method is called on the thread
+// of the feed, one at a time
+public interface CategoryChangeListener {
+
+    // Reads what is kept locally (e.g. a file), returns the watermark it is up to date with. Empty when there is
+    // nothing usable: the feed then calls load
+    Optional<Instant> open() throws IOException;
+
+    // Reads the whole table (CategoryChangeFeed#readAll), the feed catches up from the start of the load afterwards
+    void load(CategoryChangeFeed aFeed) throws IOException;
+
+    // Changed rows, in no particular order, and ids no longer in the table. Rows already held may come again
+    void apply(Collection<Category> upserts, Collection<CategoryID> removals) throws IOException;
+
+    // Rows held, compared with the rows of the table before the ids are
+    int size() throws IOException;
+
+    // For the reconcile of the ids, rows deleted by other instances leave no updated_at behind
+    Set<CategoryID> ids() throws IOException;
+
+    // After every successful poll: what is held is up to date with the table until this watermark
+    void caughtUp(Instant watermark);
+}
@@ -0,0 +1,86 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+// Opaque keyset pagination token holding the sort key and id of the last row of a page.
+// Only non-nullable columns can be used as a seek key.
+public record CategoryCursor(String sort, String direction, String key, String id) {
+
+    private static final Set<String> SEEKABLE_FIELDS = Set.of("name", "createdAt", "updatedAt");
+    private static final String SEPARATOR = ".";
+
+    public static boolean isSeekable(final String sort) {
+        return SEEKABLE_FIELDS.contains(sort);
+    }
+
+    public static CategoryCursor from(final Category aCategory, final String sort, final String direction) {
+        return from(CategorySummary.from(aCategory), sort, direction);
+    }
+
+    public static CategoryCursor from(final CategorySummary aCategory, final String sort, final String direction) {
+        return new CategoryCursor(sort, direction.toLowerCase(), keyOf(aCategory, sort), aCategory.id().getValue());
+    }
+
+    public static CategoryCursor decode(final String token) {
+        final var parts = token.split("\\" + SEPARATOR, -1);
+        if (parts.length != 4) {
+            throw invalid();
+        }
+
+        try {
+            final var aCursor = new CategoryCursor(decodePart(parts[0]), decodePart(parts[1]), decodePart(parts[2]), decodePart(parts[3]));
+            if (!isSeekable(aCursor.sort())) {
+                throw invalid();
+            }
+            aCursor.typedKey();
+            return aCursor;
+        } catch (final IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        return String.join(SEPARATOR, encodePart(sort), encodePart(direction), encodePart(key), encodePart(id));
+    }
+
+    public boolean matches(final String aSort, final String aDirection) {
+        return sort.equals(aSort) && direction.equalsIgnoreCase(aDirection);
+    }
+
+    public Comparable<?> typedKey() {
+        return switch (sort) {
+            case "createdAt", "updatedAt" -> Instant.parse(key);
+            default -> key;
+        };
+    }
+
+    public static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid cursor for this search"));
+    }
+
+    private static String keyOf(final CategorySummary aCategory, final String sort) {
+        return switch (sort) {
+            case "name" -> aCategory.name();
+            case "createdAt" -> aCategory.createdAt().toString();
+            case "updatedAt" -> aCategory.updatedAt().toString();
+            default -> throw new IllegalArgumentException("'%s' is not a seekable field".formatted(sort));
+        };
+    }
+
+    private static String encodePart(final String part) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+}
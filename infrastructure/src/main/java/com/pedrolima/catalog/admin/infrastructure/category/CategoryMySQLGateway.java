@@ -1,85 +1,375 @@
 package com.pedrolima.catalog.admin.infrastructure.category;
 
 import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
 import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
 import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
 import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.exceptions.NotFoundException;
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import com.pedrolima.catalog.admin.domain.utils.InstantUtils;
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+import com.pedrolima.catalog.admin.domain.validation.Error;
 import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.pedrolima.catalog.admin.infrastructure.configuration.persistence.ConcurrentQueryExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import javax.persistence.Tuple;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.equal;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.greaterThanOrEqualTo;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.in;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.lessThan;
 import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.matchAgainst;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.none;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.phraseWordsOf;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.seek;
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.startsWith;
 import static org.springframework.data.domain.Sort.Direction;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    // Default innodb ngram_token_size, shorter terms are not in the full text index
+    static final int NGRAM_TOKEN_SIZE = 2;
+
+    // Ids per IN list, bounds the statement size (and its parse time) of very large lookups
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
     private final CategoryRepository repository;
+    private final ConcurrentQueryExecutor queryExecutor;
+    private final boolean fullTextSearch;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final ConcurrentQueryExecutor queryExecutor,
+            @Value("${persistence.search.full-text:false}") final boolean fullTextSearch
+    ) {
         this.repository = repository;
+        this.queryExecutor = queryExecutor;
+        this.fullTextSearch = fullTextSearch;
     }
 
+    // A new entity is persisted (single INSERT), see CategoryJpaEntity#isNew. Flushed right away: inside the use case
+    // transaction the INSERT would otherwise only run on commit, after the use case turned its errors into a notification
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return this.repository.saveAndFlush(CategoryJpaEntity.from(aCategory)).toAggregate();
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+
+        return this.repository.insertAll(entities).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
     public void deleteById(final CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (repository.existsById(anIdValue)) {
-            repository.deleteById(anIdValue);
-        }
+        uuidOf(anId).ifPresent(repository::removeById);
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
-        return repository.findById(anId.getValue())
+        return uuidOf(anId)
+                .flatMap(repository::findById)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        if (this.repository.updateById(CategoryJpaEntity.from(aCategory)) == 0) {
+            throw NotFoundException.with(Category.class, aCategory.getId());
+        }
+        return aCategory;
+    }
+
+    // One SELECT ... WHERE id IN (...) per chunk of ids, whatever the number of ids
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        final var ids = anIds.stream()
+                .map(CategoryMySQLGateway::uuidOf)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+
+        final var found = new HashMap<CategoryID, Category>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_LIST_CHUNK_SIZE) {
+            final var chunk = ids.subList(from, Math.min(ids.size(), from + IN_LIST_CHUNK_SIZE));
+            this.repository.findAllById(chunk).forEach(entity -> found.put(CategoryID.from(entity.getId()), entity.toAggregate()));
+        }
+
+        return anIds.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return search(
+                aQuery,
+                (whereClause, page) -> this.repository.findSlice(whereClause, page).map(CategoryJpaEntity::toAggregate),
+                CategoryCursor::from
+        );
+    }
+
+    // Only the requested columns (plus the id and the seek key) are selected, no entity is loaded nor managed
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        final var properties = new LinkedHashSet<String>();
+        properties.add("id");
+        aQuery.fields().stream()
+                .sorted()
+                .map(CategoryMySQLGateway::propertyOf)
+                .forEach(properties::add);
+        if (CategoryCursor.isSeekable(aQuery.sort())) {
+            properties.add(aQuery.sort());
+        }
+
+        final var columns = List.copyOf(properties);
+        return search(
+                aQuery,
+                (whereClause, page) -> this.repository.findSlice(whereClause, page, columns).map(CategoryMySQLGateway::summaryOf),
+                CategoryCursor::from
+        );
+    }
+
+    // A range over the name_search index, without a count
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        final var aFilter = new CategorySearchFilter(true, null, null, null, null, null, aPrefix, null);
+        final var aQuery = new CategorySearchQuery(0, limit, "", "name", "asc", null, false, Set.of("name"), aFilter);
+        return findAllSummaries(aQuery).items();
+    }
+
+    private <T> Pagination<T> search(
+            final CategorySearchQuery aQuery,
+            final BiFunction<Specification<CategoryJpaEntity>, PageRequest, Slice<T>> fetch,
+            final CursorFactory<T> cursorOf
+    ) {
+        final var sort = sortOf(aQuery);
+        final var specification = whereOf(aQuery);
+
+        var whereClause = Specification.where(specification);
+        var pageNumber = aQuery.page();
+
+        // Keyset pagination: seeks past the last row of the previous page instead of scanning OFFSET rows
+        if (aQuery.hasCursor()) {
+            final var aCursor = CategoryCursor.decode(aQuery.after());
+            if (!aCursor.matches(aQuery.sort(), aQuery.direction())) {
+                throw CategoryCursor.invalid();
+            }
+
+            final var ascending = sort.iterator().next().isAscending();
+            final var lastId = uuidOf(CategoryID.from(aCursor.id())).orElseThrow(CategoryCursor::invalid);
+            whereClause = whereClause.and(seek(aCursor.sort(), aCursor.typedKey(), "id", lastId, ascending));
+            pageNumber = 0;
+        }
+
+        // The count (if any) runs on its own connection while this thread fetches the page
+        final var total = totalOf(aQuery, specification);
+
         // Pagination
-        final var page = PageRequest.of(
+        final var page = PageRequest.of(pageNumber, aQuery.perPage(), sort);
+        final var sliceResult = fetch.apply(whereClause, page);
+        final var items = sliceResult.toList();
+
+        return new Pagination<>(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+                total.get(),
+                items,
+                sliceResult.hasNext(),
+                sliceResult.hasNext() ? nextCursor(aQuery, items, cursorOf) : null
         );
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        return bulkUpdate(anAction, whereOf(aFilter));
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        final var ids = anIds.stream()
+                .map(CategoryMySQLGateway::uuidOf)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return bulkUpdate(anAction, in("id", ids));
+    }
+
+    // One set based statement whatever the number of matching rows
+    private long bulkUpdate(final CategoryBulkAction anAction, final Specification<CategoryJpaEntity> whereClause) {
+        final var now = InstantUtils.nowWith(ChronoUnit.MICROS);
+        return switch (anAction) {
+            case ACTIVATE -> this.repository.updateActiveWhere(whereClause, true, now);
+            case DEACTIVATE -> this.repository.updateActiveWhere(whereClause, false, now);
+            case DELETE -> this.repository.deleteWhere(whereClause);
+        };
+    }
+
+    // Table statistics only describe the unfiltered table, so filtered searches get no estimate
+    private Supplier<Long> totalOf(final CategorySearchQuery aQuery, final Specification<CategoryJpaEntity> specification) {
+        if (aQuery.withTotal()) {
+            return this.queryExecutor.fork(() -> this.repository.count(Specification.where(specification)));
+        }
+        if (specification != null) {
+            return () -> Pagination.UNKNOWN_TOTAL;
+        }
+        return () -> this.repository.estimateCount().orElse(Pagination.UNKNOWN_TOTAL);
+    }
+
+    // Terms and typed filters ANDed together, null when the search has no criteria at all
+    private Specification<CategoryJpaEntity> whereOf(final CategorySearchQuery aQuery) {
+        final var clauses = new ArrayList<Specification<CategoryJpaEntity>>();
 
         // Dynamic search by terms criteria (name or description)
-        final var specification = Optional.ofNullable(aQuery.terms())
+        Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(str -> {
-                    final Specification<CategoryJpaEntity> nameLike = like("name", str);
-                    final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-                    return nameLike.or(descriptionLike);
-                })
+                .map(this::termsClause)
+                .ifPresent(clauses::add);
+
+        // Typed filters compare the bare columns, so the (active, ...), (created_at, id), (updated_at, id)
+        // and (name_search, id) indexes can serve them
+        final var aFilter = aQuery.filter();
+        if (aFilter.active() != null) {
+            clauses.add(equal("active", aFilter.active()));
+        }
+        if (aFilter.createdFrom() != null) {
+            clauses.add(greaterThanOrEqualTo("createdAt", aFilter.createdFrom()));
+        }
+        if (aFilter.createdTo() != null) {
+            clauses.add(lessThan("createdAt", aFilter.createdTo()));
+        }
+        if (aFilter.updatedFrom() != null) {
+            clauses.add(greaterThanOrEqualTo("updatedAt", aFilter.updatedFrom()));
+        }
+        if (aFilter.updatedTo() != null) {
+            clauses.add(lessThan("updatedAt", aFilter.updatedTo()));
+        }
+        if (aFilter.hasName()) {
+            clauses.add(equal("nameSearch", TextUtils.normalize(aFilter.name())));
+        }
+        if (aFilter.hasNamePrefix()) {
+            clauses.add(startsWith("nameSearch", TextUtils.normalize(aFilter.namePrefix())));
+        }
+        if (aFilter.hasIds()) {
+            final var ids = aFilter.ids().stream()
+                    .map(CategoryMySQLGateway::uuidOf)
+                    .flatMap(Optional::stream)
+                    .distinct()
+                    .toList();
+            clauses.add(ids.isEmpty() ? none() : in("id", ids));
+        }
+
+        return clauses.stream()
+                .reduce(Specification::and)
                 .orElse(null);
+    }
 
-        final var pageResult = this.repository.findAll(Specification.where(specification), page);
+    private Specification<CategoryJpaEntity> termsClause(final String terms) {
+        if (fullTextSearch && phraseWordsOf(terms).length() >= NGRAM_TOKEN_SIZE) {
+            return matchAgainst("name", "description", terms);
+        }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+        final Specification<CategoryJpaEntity> nameLike = like("name", terms);
+        final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
+        return nameLike.or(descriptionLike);
+    }
+
+    // Only whitelisted sorts are accepted, so every ORDER BY is served by an index scan in a single direction
+    static Sort sortOf(final CategorySearchQuery aQuery) {
+        if (!aQuery.isSortable()) {
+            final var sortable = CategorySearchQuery.SORTABLE_FIELDS.stream()
+                    .map("'%s'"::formatted)
+                    .collect(Collectors.joining(", "));
+            throw DomainException.with(new Error("'sort' should be one of %s".formatted(sortable)));
+        }
+
+        final var direction = Direction.fromOptionalString(aQuery.direction())
+                .orElseThrow(() -> DomainException.with(new Error("'dir' should be asc or desc")));
+
+        final var properties = new ArrayList<>(aQuery.sortFields());
+        properties.add("id");
+        return Sort.by(direction, properties.toArray(String[]::new));
+    }
+
+    private static <T> String nextCursor(
+            final CategorySearchQuery aQuery,
+            final List<T> items,
+            final CursorFactory<T> cursorOf
+    ) {
+        if (items.isEmpty() || !CategoryCursor.isSeekable(aQuery.sort())) {
+            return null;
+        }
+        return cursorOf.from(items.get(items.size() - 1), aQuery.sort(), aQuery.direction()).encode();
+    }
+
+    // Fields a sparse fieldset may ask for, by their (domain) name
+    static String propertyOf(final String aField) {
+        return switch (aField) {
+            case "id", "name", "description", "active", "createdAt", "updatedAt", "deletedAt" -> aField;
+            default -> throw DomainException.with(new Error("'fields' has an unknown field '%s'".formatted(aField)));
+        };
+    }
+
+    private static CategorySummary summaryOf(final Tuple aRow) {
+        return new CategorySummary(
+                CategoryID.from(aRow.get("id", UUID.class)),
+                valueOf(aRow, "name", String.class),
+                valueOf(aRow, "description", String.class),
+                valueOf(aRow, "active", Boolean.class),
+                valueOf(aRow, "createdAt", Instant.class),
+                valueOf(aRow, "updatedAt", Instant.class),
+                valueOf(aRow, "deletedAt", Instant.class)
         );
     }
 
-    private Category save(final Category aCategory) {
-        return repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private static <T> T valueOf(final Tuple aRow, final String alias, final Class<T> aType) {
+        return aRow.getElements().stream().anyMatch(it -> alias.equals(it.getAlias())) ? aRow.get(alias, aType) : null;
+    }
+
+    @FunctionalInterface
+    private interface CursorFactory<T> {
+        CategoryCursor from(T last, String sort, String direction);
+    }
+
+    // Ids are stored as BINARY(16) UUIDs, any other value can not be stored and so is never found
+    private static Optional<UUID> uuidOf(final CategoryID anId) {
+        return anId.isUuid() ? Optional.of(CategoryJpaEntity.idOf(anId)) : Optional.empty();
     }
 }
@@ -0,0 +1,184 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Prefix tree over the normalized names (TextUtils#normalize) of the active categories: a suggestion walks down the
+// prefix, then collects the first names below it depth first, in the lexicographic order of the normalized names
+// (close to the name order of the database), the id breaking ties. Updated in place by one writer at a time, lookups
+// wait for writes
+public class CategoryNameTrie {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<CategoryID, Entry> entries = new HashMap<>();
+
+    public static CategoryNameTrie of(final Collection<Category> aCategories) {
+        final var trie = new CategoryNameTrie();
+        trie.apply(aCategories, List.of());
+        return trie;
+    }
+
+    // Inactive upserts are removed, as the categories they deactivate stop being suggested
+    public void apply(final Collection<Category> upserts, final Collection<CategoryID> removals) {
+        lock.writeLock().lock();
+        try {
+            removals.forEach(this::remove);
+            for (final var aCategory : upserts) {
+                remove(aCategory.getId());
+                if (aCategory.isActive()) {
+                    add(new Entry(aCategory.getId(), aCategory.getName(), TextUtils.normalize(aCategory.getName())));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<CategorySummary> suggest(final String aPrefix, final int limit) {
+        final var prefix = aPrefix != null ? TextUtils.normalize(aPrefix) : "";
+        final var suggestions = new ArrayList<CategorySummary>(Math.min(limit, 16));
+
+        lock.readLock().lock();
+        try {
+            var node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node != null) {
+                collect(node, limit, suggestions);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(final Node node, final int limit, final List<CategorySummary> suggestions) {
+        if (node.ends != null) {
+            for (final var anEntry : node.ends.values()) {
+                if (suggestions.size() == limit) {
+                    return;
+                }
+                suggestions.add(new CategorySummary(anEntry.id(), anEntry.name(), null, null, null, null, null));
+            }
+        }
+        for (int i = 0; i < node.children.length && suggestions.size() < limit; i++) {
+            collect(node.children[i], limit, suggestions);
+        }
+    }
+
+    private void add(final Entry anEntry) {
+        var node = root;
+        for (int i = 0; i < anEntry.key().length(); i++) {
+            node = node.childOrNew(anEntry.key().charAt(i));
+        }
+        if (node.ends == null) {
+            node.ends = new TreeMap<>(CategorySnapshot.ID_ORDER);
+        }
+        node.ends.put(anEntry.id(), anEntry);
+        entries.put(anEntry.id(), anEntry);
+    }
+
+    private void remove(final CategoryID anId) {
+        final var anEntry = entries.remove(anId);
+        if (anEntry != null) {
+            remove(root, anEntry, 0);
+        }
+    }
+
+    // Drops the entry, then every node left with neither names nor children on the way back up
+    private static boolean remove(final Node node, final Entry anEntry, final int depth) {
+        if (depth == anEntry.key().length()) {
+            if (node.ends != null) {
+                node.ends.remove(anEntry.id());
+                if (node.ends.isEmpty()) {
+                    node.ends = null;
+                }
+            }
+        } else {
+            final var label = anEntry.key().charAt(depth);
+            final var child = node.child(label);
+            if (child != null && remove(child, anEntry, depth + 1)) {
+                node.removeChild(label);
+            }
+        }
+        return node.ends == null && node.children.length == 0;
+    }
+
+    private record Entry(CategoryID id, String name, String key) {
+    }
+
+    // Children are kept sorted by their label in two parallel arrays, lighter than a map per node
+    private static final class Node {
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private TreeMap<CategoryID, Entry> ends;
+
+        private Node child(final char label) {
+            final var position = Arrays.binarySearch(labels, label);
+            return position >= 0 ? children[position] : null;
+        }
+
+        private Node childOrNew(final char label) {
+            final var position = Arrays.binarySearch(labels, label);
+            if (position >= 0) {
+                return children[position];
+            }
+
+            final var insertAt = -position - 1;
+            final var newLabels = new char[labels.length + 1];
+            final var newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            final var child = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(final char label) {
+            final var position = Arrays.binarySearch(labels, label);
+            if (position < 0) {
+                return;
+            }
+            final var newLabels = new char[labels.length - 1];
+            final var newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(labels, position + 1, newLabels, position, labels.length - position - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+    }
+}
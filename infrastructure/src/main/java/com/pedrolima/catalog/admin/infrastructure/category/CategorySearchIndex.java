@@ -0,0 +1,324 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+// Embedded Lucene index of the categories in a local directory, searched through a near-real-time reader: writes
+// are searchable once refreshed, commits only make them durable. Names and descriptions are indexed as the edge
+// n-grams of their folded words, so terms also match the start of words ("docu" finds "Documentaries"), and every
+// term must match the name or the description. Hits are ranked by BM25, a name hit weighing more than a description
+// one, the id breaking ties so pages stay stable. The indexed fields are stored too, results need no database read
+public class CategorySearchIndex implements Closeable {
+
+    // Relevance pages are ranked in memory, deeper ones are refused instead of ranking ever more hits
+    public static final int MAX_RANKED_RESULTS = 10_000;
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String NAME_KEY = "name_key";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "created_at";
+    private static final String UPDATED_AT = "updated_at";
+    private static final String DELETED_AT = "deleted_at";
+    private static final String WATERMARK = "watermark";
+
+    private static final float NAME_BOOST = 2f;
+    private static final int MAX_GRAM_SIZE = 20;
+    private static final Sort BY_RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.STRING));
+
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Analyzer queryAnalyzer = analyzer(false);
+
+    private CategorySearchIndex(final Directory directory, final IndexWriter writer) throws IOException {
+        this.directory = directory;
+        this.writer = writer;
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // Opens the index in the directory, creating an empty one if there is none
+    public static CategorySearchIndex open(final Path path) throws IOException {
+        final var directory = FSDirectory.open(path);
+        try {
+            final var config = new IndexWriterConfig(analyzer(true))
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            return new CategorySearchIndex(directory, new IndexWriter(directory, config));
+        } catch (final IOException | RuntimeException ex) {
+            directory.close();
+            throw ex;
+        }
+    }
+
+    // Rows changed from this updated_at on may be missing, empty for an index never committed
+    public Optional<Instant> watermark() {
+        return StreamSupport.stream(writer.getLiveCommitData().spliterator(), false)
+                .filter(entry -> WATERMARK.equals(entry.getKey()))
+                .map(entry -> Instant.parse(entry.getValue()))
+                .findFirst();
+    }
+
+    public void upsert(final Collection<Category> aCategories) throws IOException {
+        for (final var aCategory : aCategories) {
+            writer.updateDocument(new Term(ID, aCategory.getId().getValue()), documentOf(aCategory));
+        }
+    }
+
+    public void delete(final Collection<CategoryID> anIds) throws IOException {
+        writer.deleteDocuments(anIds.stream().map(anId -> new Term(ID, anId.getValue())).toArray(Term[]::new));
+    }
+
+    // Makes the writes so far searchable
+    public void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // Makes the writes so far durable, along with the watermark to catch up from after a restart
+    public void commit(final Instant watermark) throws IOException {
+        writer.setLiveCommitData(Map.of(WATERMARK, watermark.toString()).entrySet());
+        writer.commit();
+    }
+
+    public int size() throws IOException {
+        final var searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // Ids of the searchable documents, to find the rows deleted by other instances
+    public Set<CategoryID> ids() throws IOException {
+        final var searcher = searcherManager.acquire();
+        try {
+            final var ids = new HashSet<CategoryID>();
+            for (final var leaf : searcher.getIndexReader().leaves()) {
+                final var liveDocs = leaf.reader().getLiveDocs();
+                final var values = DocValues.getSorted(leaf.reader(), ID);
+                for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                    if (liveDocs == null || liveDocs.get(doc)) {
+                        ids.add(CategoryID.from(values.lookupOrd(values.ordValue()).utf8ToString()));
+                    }
+                }
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // Relevance ordered search, the filters are the ones of CategoryMySQLGateway#whereOf
+    public Pagination<Category> search(final CategorySearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            throw CategoryCursor.invalid();
+        }
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+        if (offset + aQuery.perPage() > MAX_RANKED_RESULTS) {
+            throw DomainException.with(new Error(
+                    "'page' and 'perPage' should stay within the first %d results of a relevance search".formatted(MAX_RANKED_RESULTS)
+            ));
+        }
+
+        try {
+            final var query = queryOf(aQuery);
+            final var searcher = searcherManager.acquire();
+            try {
+                final var hits = searcher.search(query, (int) offset + aQuery.perPage() + 1, BY_RELEVANCE, true).scoreDocs;
+                final var end = (int) Math.min(hits.length, offset + aQuery.perPage());
+                final StoredFields storedFields = searcher.storedFields();
+                final var items = new ArrayList<Category>(aQuery.perPage());
+                for (int i = (int) offset; i < end; i++) {
+                    items.add(categoryOf(storedFields.document(hits[i].doc)));
+                }
+                final var total = aQuery.withTotal() ? searcher.count(query) : Pagination.UNKNOWN_TOTAL;
+                return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, hits.length > end, null);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (directory; writer; searcherManager) {
+            // Closed in reverse order
+        }
+    }
+
+    private Query queryOf(final CategorySearchQuery aQuery) throws IOException {
+        final var query = new BooleanQuery.Builder();
+        final var terms = tokensOf(Optional.ofNullable(aQuery.terms()).map(TextUtils::fold).orElse(""));
+        if (terms.isEmpty()) {
+            query.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+        for (final var term : terms) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, term)), NAME_BOOST), Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), Occur.SHOULD)
+                    .build(), Occur.MUST);
+        }
+
+        final var aFilter = aQuery.filter();
+        if (aFilter.active() != null) {
+            query.add(new TermQuery(new Term(ACTIVE, aFilter.active().toString())), Occur.FILTER);
+        }
+        if (aFilter.createdFrom() != null || aFilter.createdTo() != null) {
+            query.add(rangeOf(CREATED_AT, aFilter.createdFrom(), aFilter.createdTo()), Occur.FILTER);
+        }
+        if (aFilter.updatedFrom() != null || aFilter.updatedTo() != null) {
+            query.add(rangeOf(UPDATED_AT, aFilter.updatedFrom(), aFilter.updatedTo()), Occur.FILTER);
+        }
+        if (aFilter.hasName()) {
+            query.add(new TermQuery(new Term(NAME_KEY, TextUtils.normalize(aFilter.name()))), Occur.FILTER);
+        }
+        if (aFilter.hasNamePrefix()) {
+            query.add(new PrefixQuery(new Term(NAME_KEY, TextUtils.normalize(aFilter.namePrefix()))), Occur.FILTER);
+        }
+        if (aFilter.hasIds()) {
+            final var ids = aFilter.ids().stream()
+                    .filter(CategoryID::isUuid)
+                    .map(anId -> new BytesRef(anId.getValue()))
+                    .toList();
+            query.add(ids.isEmpty() ? new MatchNoDocsQuery() : new TermInSetQuery(ID, ids), Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    // Ranges include their start and exclude their end
+    private static Query rangeOf(final String field, final Instant from, final Instant to) {
+        return LongPoint.newRangeQuery(
+                field,
+                from != null ? nanosOf(from) : Long.MIN_VALUE,
+                to != null ? nanosOf(to) - 1 : Long.MAX_VALUE
+        );
+    }
+
+    private List<String> tokensOf(final String text) throws IOException {
+        final var tokens = new ArrayList<String>();
+        try (final var stream = queryAnalyzer.tokenStream(NAME, text)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    private static Document documentOf(final Category aCategory) {
+        final var document = new Document();
+        document.add(new StringField(ID, aCategory.getId().getValue(), Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(aCategory.getId().getValue())));
+        document.add(new TextField(NAME, TextUtils.fold(aCategory.getName()), Field.Store.NO));
+        document.add(new StoredField(NAME, aCategory.getName()));
+        document.add(new StringField(NAME_KEY, TextUtils.normalize(aCategory.getName()), Field.Store.NO));
+        if (aCategory.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, TextUtils.fold(aCategory.getDescription()), Field.Store.NO));
+            document.add(new StoredField(DESCRIPTION, aCategory.getDescription()));
+        }
+        document.add(new StringField(ACTIVE, Boolean.toString(aCategory.isActive()), Field.Store.YES));
+        addInstant(document, CREATED_AT, aCategory.getCreatedAt());
+        addInstant(document, UPDATED_AT, aCategory.getUpdatedAt());
+        if (aCategory.getDeletedAt() != null) {
+            addInstant(document, DELETED_AT, aCategory.getDeletedAt());
+        }
+        return document;
+    }
+
+    private static Category categoryOf(final Document document) {
+        return Category.with(
+                CategoryID.from(document.get(ID)),
+                document.get(NAME),
+                document.get(DESCRIPTION),
+                Boolean.parseBoolean(document.get(ACTIVE)),
+                instantOf(document, CREATED_AT),
+                instantOf(document, UPDATED_AT),
+                instantOf(document, DELETED_AT)
+        );
+    }
+
+    private static void addInstant(final Document document, final String field, final Instant anInstant) {
+        document.add(new LongPoint(field, nanosOf(anInstant)));
+        document.add(new StoredField(field, nanosOf(anInstant)));
+    }
+
+    private static Instant instantOf(final Document document, final String field) {
+        final var value = document.getField(field);
+        return value != null ? Instant.EPOCH.plusNanos(value.numericValue().longValue()) : null;
+    }
+
+    private static long nanosOf(final Instant anInstant) {
+        return Math.addExact(Math.multiplyExact(anInstant.getEpochSecond(), 1_000_000_000L), anInstant.getNano());
+    }
+
+    // Indexed text is folded beforehand (TextUtils#fold), the analyzers only split it into words
+    private static Analyzer analyzer(final boolean edgeNGrams) {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(final String fieldName) {
+                final var tokenizer = new StandardTokenizer();
+                final TokenStream stream = edgeNGrams
+                        ? new EdgeNGramTokenFilter(tokenizer, 1, MAX_GRAM_SIZE, true)
+                        : tokenizer;
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+    }
+}
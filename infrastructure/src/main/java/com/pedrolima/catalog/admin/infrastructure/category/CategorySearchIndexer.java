@@ -0,0 +1,272 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Keeps the CategorySearchIndex up to date as a listener of the CategoryChangeFeed. The index is committed with its
+// watermark periodically and on shutdown, a restart only reads what changed since. Without an index (or on request)
+// one is rebuilt from the table, on a thread and in a directory of its own: the feed keeps updating the previous one,
+// searched meanwhile, and swaps the new one in once it is done
+public class CategorySearchIndexer implements CategoryChangeListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySearchIndexer.class);
+
+    private static final String GENERATION_PREFIX = "index-";
+
+    private final Path path;
+    private final CategoryChangeFeed feed;
+    private final Duration commitInterval;
+    private final ExecutorService rebuilder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile CategorySearchIndex index;
+    private Instant watermark; // Only touched by the polling thread
+
+    public CategorySearchIndexer(final Path path, final CategoryChangeFeed feed, final Duration commitInterval) {
+        this.path = path;
+        this.feed = feed;
+        this.commitInterval = commitInterval;
+        this.rebuilder = feed != null ? Executors.newSingleThreadExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-search-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public static CategorySearchIndexer disabled() {
+        return new CategorySearchIndexer(null, null, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return feed != null;
+    }
+
+    // The latest complete index, if any, is opened on the polling thread. Without one, a rebuild starts
+    public void start() {
+        if (feed == null) {
+            return;
+        }
+        feed.subscribe(this);
+        feed.every(commitInterval, this::tryCommit);
+    }
+
+    // Empty until an index was opened or built
+    public Optional<CategorySearchIndex> current() {
+        return Optional.ofNullable(index);
+    }
+
+    @Override
+    public int size() {
+        final var anIndex = this.index;
+        try {
+            return anIndex != null ? anIndex.size() : 0;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    // Failed rebuilds, commits and updates of the index since the start
+    public long failures() {
+        return failures.get();
+    }
+
+    // Starts a rebuild from the whole table and returns at once, false when one is running already
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuilder.execute(this::runRebuild);
+            return true;
+        } catch (final RejectedExecutionException ex) {
+            rebuilding.set(false);
+            return false;
+        }
+    }
+
+    // An index never committed (e.g. a rebuild cut short) has no watermark and is not used
+    @Override
+    public Optional<Instant> open() throws IOException {
+        Files.createDirectories(path);
+        for (final var generation : generations().sorted(Comparator.reverseOrder()).toList()) {
+            final var anIndex = CategorySearchIndex.open(generation);
+            final var aWatermark = anIndex.watermark();
+            if (aWatermark.isPresent()) {
+                index = anIndex;
+                watermark = aWatermark.get();
+                deleteOtherGenerations(generation);
+                return aWatermark;
+            }
+            anIndex.close();
+        }
+        return Optional.empty();
+    }
+
+    // Searches are answered by the database until the rebuild is done
+    @Override
+    public void load(final CategoryChangeFeed aFeed) {
+        rebuild();
+    }
+
+    @Override
+    public void apply(final Collection<Category> upserts, final Collection<CategoryID> removals) throws IOException {
+        final var anIndex = this.index;
+        if (anIndex == null || (upserts.isEmpty() && removals.isEmpty())) {
+            return;
+        }
+        anIndex.upsert(upserts);
+        anIndex.delete(removals);
+        anIndex.refresh();
+    }
+
+    @Override
+    public Set<CategoryID> ids() throws IOException {
+        final var anIndex = this.index;
+        return anIndex != null ? anIndex.ids() : Set.of();
+    }
+
+    @Override
+    public void caughtUp(final Instant aWatermark) {
+        watermark = aWatermark;
+    }
+
+    // No interrupt: an interrupted Lucene write closes its file channels, and with them the index writer
+    @Override
+    public void close() {
+        if (feed == null) {
+            return;
+        }
+        rebuilder.shutdown();
+        feed.await(() -> {
+            if (index != null) {
+                tryCommit();
+                closeQuietly(index);
+                index = null;
+            }
+        });
+    }
+
+    // Rows written meanwhile are read again once the new index is swapped in, from the start of the rebuild on
+    private void runRebuild() {
+        final var startedAt = Instant.now();
+        final var generation = path.resolve(GENERATION_PREFIX + startedAt.toEpochMilli());
+        try {
+            final var rebuilt = CategorySearchIndex.open(generation);
+            try {
+                feed.readAll(chunk -> {
+                    try {
+                        rebuilt.upsert(chunk);
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                rebuilt.commit(startedAt);
+                rebuilt.refresh();
+            } catch (final IOException | RuntimeException ex) {
+                rebuilt.close();
+                throw ex;
+            }
+
+            if (!feed.execute(() -> swap(rebuilt, generation, startedAt))) {
+                rebuilt.close();
+            }
+        } catch (final IOException | RuntimeException ex) {
+            failed("rebuild", ex);
+            deleteDirectory(generation);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // On the polling thread, between two polls. The feed reconciles the ids right after, as rows deleted during the
+    // rebuild leave nothing behind to read again
+    private void swap(final CategorySearchIndex rebuilt, final Path generation, final Instant startedAt) {
+        final var previous = index;
+        index = rebuilt;
+        watermark = startedAt;
+        feed.rewind(startedAt);
+        feed.requestReconcile();
+        if (previous != null) {
+            closeQuietly(previous);
+        }
+        deleteOtherGenerations(generation);
+    }
+
+    private void tryCommit() {
+        if (index == null || watermark == null) {
+            return;
+        }
+        try {
+            index.commit(watermark);
+        } catch (final IOException | RuntimeException ex) {
+            // The previous commit stays, a restart catches up from its (older) watermark
+            failed("commit", ex);
+        }
+    }
+
+    private void failed(final String anAction, final Exception ex) {
+        failures.incrementAndGet();
+        log.warn("Could not {} the category search index", anAction, ex);
+    }
+
+    // Generation directories sort by their start time, same number of digits until the year 2286
+    private Stream<Path> generations() throws IOException {
+        try (final var files = Files.list(path)) {
+            return files.filter(Files::isDirectory)
+                    .filter(file -> file.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .toList()
+                    .stream();
+        }
+    }
+
+    private void deleteOtherGenerations(final Path kept) {
+        try {
+            generations().filter(generation -> !generation.equals(kept)).forEach(CategorySearchIndexer::deleteDirectory);
+        } catch (final IOException ex) {
+            // Deleted on a later start
+            log.debug("Could not list the category search index generations", ex);
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) {
+        try (final var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (final IOException ex) {
+            // Deleted on a later start
+            log.debug("Could not delete the category search index generation {}", directory, ex);
+        }
+    }
+
+    private static void closeQuietly(final CategorySearchIndex anIndex) {
+        try {
+            anIndex.close();
+        } catch (final IOException ex) {
+            // Its files are deleted along with its generation
+            log.debug("Could not close a category search index", ex);
+        }
+    }
+}
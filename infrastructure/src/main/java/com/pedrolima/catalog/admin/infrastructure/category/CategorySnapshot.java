@@ -0,0 +1,574 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+import org.springframework.data.domain.PageRequest;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.pedrolima.catalog.admin.infrastructure.utils.SpecificationUtils.phraseWordsOf;
+
+// Immutable in-memory copy of the category table, searched the way CategoryMySQLGateway searches MySQL: same filters,
+// same whitelisted sorts (one precomputed row order each, ties broken by the id), same pages, totals and cursors
+public class CategorySnapshot {
+
+    // Close to the utf8mb4_0900_ai_ci collation of the name column: case and accent insensitive
+    private static final Collator NAME_COLLATOR = nameCollator();
+
+    // BINARY(16) ids are compared as unsigned bytes, UUID#compareTo compares signed longs
+    static final Comparator<CategoryID> ID_ORDER = Comparator
+            .comparing(CategoryID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(CategoryID::getLeastSignificantBits, Long::compareUnsigned);
+
+    // Not a sort of searches (those are validated first), the order the rows are looked up by id in
+    private static final String BY_ID = "id";
+
+    // Ties broken by the id, so every order is total
+    private static final Map<String, Comparator<Row>> SORTS = Map.of(
+            BY_ID, Comparator.comparing(Row::id, ID_ORDER),
+            "name", withId(Comparator.comparing(Row::nameKey)),
+            "createdAt", withId(Comparator.comparing(Row::createdAt)),
+            "updatedAt", withId(Comparator.comparing(Row::updatedAt)),
+            "active,name", withId(Comparator.comparing(Row::active).thenComparing(Row::nameKey)),
+            "active,createdAt", withId(Comparator.comparing(Row::active).thenComparing(Row::createdAt))
+    );
+
+    private final Row[] rows;
+    private final Map<String, int[]> orders;
+    private final FoldedTextColumn names;
+    private final FoldedTextColumn descriptions;
+    private final boolean fullTextSearch;
+
+    private CategorySnapshot(
+            final Row[] rows,
+            final Map<String, int[]> orders,
+            final FoldedTextColumn names,
+            final FoldedTextColumn descriptions,
+            final boolean fullTextSearch
+    ) {
+        this.rows = rows;
+        this.orders = orders;
+        this.names = names;
+        this.descriptions = descriptions;
+        this.fullTextSearch = fullTextSearch;
+    }
+
+    public static CategorySnapshot of(final Collection<Category> aCategories, final boolean fullTextSearch) {
+        final var empty = new CategorySnapshot(
+                new Row[0],
+                Map.of(),
+                FoldedTextColumn.of(new String[0]),
+                FoldedTextColumn.of(new String[0]),
+                fullTextSearch
+        );
+        return empty.with(aCategories, List.of());
+    }
+
+    // Unchanged rows (and their precomputed search forms) are shared with this snapshot. Removed and replaced rows are
+    // dropped, the new versions appended: each order keeps its (remapped) positions and only the appended rows are
+    // sorted, then merged in. Linear in the size of the snapshot, plus the sort of the changed rows
+    public CategorySnapshot with(final Collection<Category> upserts, final Collection<CategoryID> removals) {
+        final var appendedById = new LinkedHashMap<CategoryID, Category>();
+        upserts.forEach(aCategory -> appendedById.put(aCategory.getId(), aCategory));
+
+        final var dropped = new BitSet(rows.length);
+        removals.forEach(anId -> drop(anId, dropped));
+        appendedById.keySet().forEach(anId -> drop(anId, dropped));
+        if (dropped.isEmpty() && appendedById.isEmpty()) {
+            return this;
+        }
+
+        final var kept = rows.length - dropped.cardinality();
+        final var newRows = new Row[kept + appendedById.size()];
+        final var newPositions = new int[rows.length];
+        for (int i = 0, next = 0; i < rows.length; i++) {
+            if (dropped.get(i)) {
+                newPositions[i] = -1;
+            } else {
+                newPositions[i] = next;
+                newRows[next++] = rows[i];
+            }
+        }
+        final var appended = appendedById.values().stream().map(Row::of).toArray(Row[]::new);
+        System.arraycopy(appended, 0, newRows, kept, appended.length);
+
+        final var newOrders = new HashMap<String, int[]>();
+        SORTS.forEach((sort, comparator) -> newOrders.put(sort, mergedOrder(
+                orders.getOrDefault(sort, new int[0]),
+                newPositions,
+                kept,
+                newRows,
+                comparator
+        )));
+
+        return new CategorySnapshot(
+                newRows,
+                newOrders,
+                names.with(dropped, Arrays.stream(appended).map(Row::name).toArray(String[]::new)),
+                descriptions.with(dropped, Arrays.stream(appended).map(Row::description).toArray(String[]::new)),
+                fullTextSearch
+        );
+    }
+
+    // True when this version of the category is older than the one held, e.g. a local write applied after a poll
+    // already read a later change of the same row
+    boolean isOutdated(final Category aCategory) {
+        final var position = positionOf(aCategory.getId());
+        return position >= 0 && rows[position].updatedAt().isAfter(aCategory.getUpdatedAt());
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public Set<CategoryID> ids() {
+        return Arrays.stream(rows).map(Row::id).collect(Collectors.toSet());
+    }
+
+    // The stored categories themselves, for CategorySnapshotFile: they must not be modified
+    List<Category> categories() {
+        return Arrays.stream(rows).map(Row::category).toList();
+    }
+
+    public Optional<Instant> lastUpdatedAt() {
+        return Arrays.stream(rows).map(Row::updatedAt).max(Comparator.naturalOrder());
+    }
+
+    // True when the snapshot already holds this version of the category
+    public boolean contains(final Category aCategory) {
+        final var position = positionOf(aCategory.getId());
+        return position >= 0 && rows[position].updatedAt().equals(aCategory.getUpdatedAt());
+    }
+
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return search(aQuery, position -> Category.with(rows[position].category()));
+    }
+
+    // Fields are validated and filled like the MySQL projection: the id, the requested ones and the seek key
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        final var fields = new LinkedHashSet<String>();
+        fields.add("id");
+        aQuery.fields().stream()
+                .sorted()
+                .map(CategoryMySQLGateway::propertyOf)
+                .forEach(fields::add);
+        if (CategoryCursor.isSeekable(aQuery.sort())) {
+            fields.add(aQuery.sort());
+        }
+
+        return search(aQuery, position -> summaryOf(rows[position].category(), fields));
+    }
+
+    private <T> Pagination<T> search(final CategorySearchQuery aQuery, final IntFunction<T> itemOf) {
+        final var ascending = CategoryMySQLGateway.sortOf(aQuery).iterator().next().isAscending();
+        final var order = orders.get(String.join(",", aQuery.sortFields()));
+        final var filter = filterOf(aQuery);
+
+        // Walks the row order from its start (or just past the cursor) in the requested direction
+        var pageNumber = aQuery.page();
+        var start = ascending ? 0 : order.length - 1;
+        if (aQuery.hasCursor()) {
+            final var aCursor = CategoryCursor.decode(aQuery.after());
+            if (!aCursor.matches(aQuery.sort(), aQuery.direction())) {
+                throw CategoryCursor.invalid();
+            }
+            final var lastId = CategoryID.from(aCursor.id());
+            if (!lastId.isUuid()) {
+                throw CategoryCursor.invalid();
+            }
+            start = ascending ? upperBound(order, aCursor, lastId) : lowerBound(order, aCursor, lastId) - 1;
+            pageNumber = 0;
+        }
+        final var step = ascending ? 1 : -1;
+
+        final var page = PageRequest.of(pageNumber, aQuery.perPage());
+        final var matches = new ArrayList<Integer>(aQuery.perPage() + 1);
+        long skipped = 0;
+        for (int i = start; i >= 0 && i < order.length && matches.size() <= aQuery.perPage(); i += step) {
+            final var position = order[i];
+            if (filter != null && !filter.test(position)) {
+                continue;
+            }
+            if (skipped < page.getOffset()) {
+                skipped++;
+                continue;
+            }
+            matches.add(position);
+        }
+
+        final var hasNext = matches.size() > aQuery.perPage();
+        final var pageRows = hasNext ? matches.subList(0, aQuery.perPage()) : matches;
+        final var items = pageRows.stream().map(itemOf::apply).toList();
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                totalOf(aQuery, filter),
+                items,
+                hasNext,
+                hasNext ? nextCursor(aQuery, pageRows) : null
+        );
+    }
+
+    // Unlike MySQL, the size of the whole table is exact, so it replaces the estimate of unfiltered searches
+    private long totalOf(final CategorySearchQuery aQuery, final IntPredicate filter) {
+        if (filter == null) {
+            return rows.length;
+        }
+        if (aQuery.withTotal()) {
+            return IntStream.range(0, rows.length).filter(filter).count();
+        }
+        return Pagination.UNKNOWN_TOTAL;
+    }
+
+    private String nextCursor(final CategorySearchQuery aQuery, final List<Integer> pageRows) {
+        if (pageRows.isEmpty() || !CategoryCursor.isSeekable(aQuery.sort())) {
+            return null;
+        }
+        final var last = rows[pageRows.get(pageRows.size() - 1)].category();
+        return CategoryCursor.from(last, aQuery.sort(), aQuery.direction()).encode();
+    }
+
+    // Same criteria as CategoryMySQLGateway#whereOf, null when the search has none
+    private IntPredicate filterOf(final CategorySearchQuery aQuery) {
+        final var filters = new ArrayList<IntPredicate>();
+
+        Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::termsFilter)
+                .ifPresent(filters::add);
+
+        final var aFilter = aQuery.filter();
+        if (aFilter.active() != null) {
+            final boolean active = aFilter.active();
+            filters.add(position -> rows[position].active() == active);
+        }
+        if (aFilter.createdFrom() != null) {
+            filters.add(position -> !rows[position].createdAt().isBefore(aFilter.createdFrom()));
+        }
+        if (aFilter.createdTo() != null) {
+            filters.add(position -> rows[position].createdAt().isBefore(aFilter.createdTo()));
+        }
+        if (aFilter.updatedFrom() != null) {
+            filters.add(position -> !rows[position].updatedAt().isBefore(aFilter.updatedFrom()));
+        }
+        if (aFilter.updatedTo() != null) {
+            filters.add(position -> rows[position].updatedAt().isBefore(aFilter.updatedTo()));
+        }
+        if (aFilter.hasName()) {
+            final var name = TextUtils.normalize(aFilter.name());
+            filters.add(position -> rows[position].nameSearch().equals(name));
+        }
+        if (aFilter.hasNamePrefix()) {
+            final var prefix = TextUtils.normalize(aFilter.namePrefix());
+            filters.add(position -> rows[position].nameSearch().startsWith(prefix));
+        }
+        if (aFilter.hasIds()) {
+            final var ids = aFilter.ids().stream()
+                    .filter(CategoryID::isUuid)
+                    .collect(Collectors.toSet());
+            filters.add(position -> ids.contains(rows[position].id()));
+        }
+
+        return filters.stream()
+                .reduce(IntPredicate::and)
+                .orElse(null);
+    }
+
+    // MATCH ... AGAINST a phrase with the n-gram parser, or LIKE '%terms%' (with its % and _ wildcards) otherwise,
+    // over the name or the description. Both compare case and accent insensitively, as the collation does.
+    // Plain substrings are found by one scan of the text columns, only terms with wildcards are matched row by row
+    private IntPredicate termsFilter(final String terms) {
+        if (fullTextSearch && phraseWordsOf(terms).length() >= CategoryMySQLGateway.NGRAM_TOKEN_SIZE) {
+            return containing(TextUtils.fold(phraseWordsOf(terms)));
+        }
+
+        final var term = TextUtils.fold(terms);
+        if (term.chars().noneMatch(c -> c == '%' || c == '_' || c == '\\')) {
+            return containing(term);
+        }
+
+        final var pattern = likePattern(term);
+        final IntPredicate matchesName = position -> pattern.matcher(rows[position].name()).find();
+        final IntPredicate matchesDescription = position -> rows[position].description() != null && pattern.matcher(rows[position].description()).find();
+        return matchesName.or(matchesDescription);
+    }
+
+    private IntPredicate containing(final String term) {
+        final var matches = names.matching(term);
+        matches.or(descriptions.matching(term));
+        return matches::get;
+    }
+
+    // The LIKE pattern without its surrounding %: % is any sequence, _ any character and \ escapes the next one
+    private static Pattern likePattern(final String term) {
+        final var regex = new StringBuilder();
+        for (int i = 0; i < term.length(); i++) {
+            final var c = term.charAt(i);
+            if (c == '\\' && i + 1 < term.length()) {
+                regex.append(Pattern.quote(String.valueOf(term.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    // First index of the (ascending) order past the rows up to (key, id) included
+    private int upperBound(final int[] order, final CategoryCursor aCursor, final CategoryID lastId) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (compareToCursor(rows[order[middle]], aCursor, lastId) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // First index of the (ascending) order not before (key, id)
+    private int lowerBound(final int[] order, final CategoryCursor aCursor, final CategoryID lastId) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (compareToCursor(rows[order[middle]], aCursor, lastId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compareToCursor(final Row aRow, final CategoryCursor aCursor, final CategoryID lastId) {
+        final var byKey = switch (aCursor.sort()) {
+            case "name" -> aRow.nameKey().compareTo(NAME_COLLATOR.getCollationKey(aCursor.key()));
+            case "createdAt" -> aRow.createdAt().compareTo((Instant) aCursor.typedKey());
+            case "updatedAt" -> aRow.updatedAt().compareTo((Instant) aCursor.typedKey());
+            default -> throw CategoryCursor.invalid();
+        };
+        return byKey != 0 ? byKey : ID_ORDER.compare(aRow.id(), lastId);
+    }
+
+    private void drop(final CategoryID anId, final BitSet dropped) {
+        final var position = positionOf(anId);
+        if (position >= 0) {
+            dropped.set(position);
+        }
+    }
+
+    // Binary search of the id order, -1 when the id is not in the snapshot
+    private int positionOf(final CategoryID anId) {
+        final var order = orders.get(BY_ID);
+        if (order == null || !anId.isUuid()) {
+            return -1;
+        }
+        int low = 0;
+        int high = order.length - 1;
+        while (low <= high) {
+            final var middle = (low + high) >>> 1;
+            final var comparison = ID_ORDER.compare(rows[order[middle]].id(), anId);
+            if (comparison == 0) {
+                return order[middle];
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -1;
+    }
+
+    // The previous order without its dropped rows, merged with the appended rows [kept, rows.length) once sorted
+    private static int[] mergedOrder(
+            final int[] previous,
+            final int[] newPositions,
+            final int kept,
+            final Row[] rows,
+            final Comparator<Row> comparator
+    ) {
+        final var remaining = new int[kept];
+        var count = 0;
+        for (final var position : previous) {
+            if (newPositions[position] >= 0) {
+                remaining[count++] = newPositions[position];
+            }
+        }
+
+        final var appended = IntStream.range(kept, rows.length).toArray();
+        sort(appended, rows, comparator);
+
+        // Few rows change at a time: each one is placed by a binary search, the rows in between are copied as they are
+        final var merged = new int[rows.length];
+        var from = 0;
+        var next = 0;
+        for (final var position : appended) {
+            final var at = upperBound(remaining, from, kept, rows[position], rows, comparator);
+            System.arraycopy(remaining, from, merged, next, at - from);
+            next += at - from;
+            from = at;
+            merged[next++] = position;
+        }
+        System.arraycopy(remaining, from, merged, next, kept - from);
+        return merged;
+    }
+
+    // First index of order[from, to) whose row sorts after the given one
+    private static int upperBound(
+            final int[] order,
+            final int from,
+            final int to,
+            final Row aRow,
+            final Row[] rows,
+            final Comparator<Row> comparator
+    ) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (comparator.compare(rows[order[middle]], aRow) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Merge sort of row positions, without boxing them
+    private static void sort(final int[] order, final Row[] rows, final Comparator<Row> comparator) {
+        mergeSort(order.clone(), order, 0, order.length, rows, comparator);
+    }
+
+    // Sorts destination[from, to) using source as the buffer, both hold the same positions on entry
+    private static void mergeSort(
+            final int[] source,
+            final int[] destination,
+            final int from,
+            final int to,
+            final Row[] rows,
+            final Comparator<Row> comparator
+    ) {
+        if (to - from < 2) {
+            return;
+        }
+        final var middle = (from + to) >>> 1;
+        mergeSort(destination, source, from, middle, rows, comparator);
+        mergeSort(destination, source, middle, to, rows, comparator);
+        merge(source, from, middle, source, middle, to, destination, from, rows, comparator);
+    }
+
+    private static void merge(
+            final int[] first,
+            int firstFrom,
+            final int firstTo,
+            final int[] second,
+            int secondFrom,
+            final int secondTo,
+            final int[] destination,
+            int next,
+            final Row[] rows,
+            final Comparator<Row> comparator
+    ) {
+        while (firstFrom < firstTo && secondFrom < secondTo) {
+            destination[next++] = comparator.compare(rows[first[firstFrom]], rows[second[secondFrom]]) <= 0
+                    ? first[firstFrom++]
+                    : second[secondFrom++];
+        }
+        System.arraycopy(first, firstFrom, destination, next, firstTo - firstFrom);
+        System.arraycopy(second, secondFrom, destination, next + firstTo - firstFrom, secondTo - secondFrom);
+    }
+
+    private static Comparator<Row> withId(final Comparator<Row> comparator) {
+        return comparator.thenComparing(Row::id, ID_ORDER);
+    }
+
+    static CategorySummary summaryOf(final Category aCategory, final Set<String> fields) {
+        return new CategorySummary(
+                aCategory.getId(),
+                fields.contains("name") ? aCategory.getName() : null,
+                fields.contains("description") ? aCategory.getDescription() : null,
+                fields.contains("active") ? aCategory.isActive() : null,
+                fields.contains("createdAt") ? aCategory.getCreatedAt() : null,
+                fields.contains("updatedAt") ? aCategory.getUpdatedAt() : null,
+                fields.contains("deletedAt") ? aCategory.getDeletedAt() : null
+        );
+    }
+
+    private static Collator nameCollator() {
+        final var collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    // A category with its search forms: folded name and description (for terms), normalized name and collation key
+    private record Row(
+            Category category,
+            String name,
+            String description,
+            String nameSearch,
+            CollationKey nameKey
+    ) {
+
+        static Row of(final Category aCategory) {
+            final var aCopy = Category.with(aCategory);
+            return new Row(
+                    aCopy,
+                    TextUtils.fold(aCopy.getName()),
+                    TextUtils.fold(aCopy.getDescription()),
+                    TextUtils.normalize(aCopy.getName()),
+                    NAME_COLLATOR.getCollationKey(aCopy.getName())
+            );
+        }
+
+        CategoryID id() {
+            return category.getId();
+        }
+
+        boolean active() {
+            return category.isActive();
+        }
+
+        Instant createdAt() {
+            return category.getCreatedAt();
+        }
+
+        Instant updatedAt() {
+            return category.getUpdatedAt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// Compact binary copy of the snapshot on local disk, read back (memory-mapped) when the application restarts so lists
+// and searches are served from it while the rows changed since its watermark are read from the database.
+// Layout: magic, version, watermark, writtenAt, row count, rows, CRC32 of everything before it
+public class CategorySnapshotFile {
+
+    private static final int MAGIC = 0x43415453;
+    private static final int VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_SECONDS = Long.MIN_VALUE;
+
+    private final Path path;
+
+    public CategorySnapshotFile(final Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    public record Content(Instant watermark, Instant writtenAt, List<Category> categories) {
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    // Written to a temporary file moved over the previous one, a reader never sees a partial file
+    public void write(final Collection<Category> categories, final Instant watermark) throws IOException {
+        Files.createDirectories(path.getParent());
+        final var temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            final var checksum = new CRC32();
+            try (final var out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(temporary), checksum), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeInstant(out, watermark);
+                writeInstant(out, Instant.now());
+                out.writeInt(categories.size());
+                for (final var aCategory : categories) {
+                    out.writeLong(aCategory.getId().getMostSignificantBits());
+                    out.writeLong(aCategory.getId().getLeastSignificantBits());
+                    writeString(out, aCategory.getName());
+                    writeString(out, aCategory.getDescription());
+                    out.writeBoolean(aCategory.isActive());
+                    writeInstant(out, aCategory.getCreatedAt());
+                    writeInstant(out, aCategory.getUpdatedAt());
+                    writeInstant(out, aCategory.getDeletedAt());
+                }
+                out.flush();
+                out.writeLong(checksum.getValue());
+            }
+            try (final var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Empty when there is no file, or it is truncated, corrupted or of another version
+    public Optional<Content> read() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var bodySize = buffer.limit() - Long.BYTES;
+            if (bodySize < 0) {
+                return Optional.empty();
+            }
+
+            final var checksum = new CRC32();
+            checksum.update(buffer.slice(0, bodySize));
+            if (checksum.getValue() != buffer.getLong(bodySize)) {
+                return Optional.empty();
+            }
+
+            final var body = buffer.slice(0, bodySize);
+            if (body.getInt() != MAGIC || body.getInt() != VERSION) {
+                return Optional.empty();
+            }
+            final var watermark = readInstant(body);
+            final var writtenAt = readInstant(body);
+            final var count = body.getInt();
+            final var categories = new ArrayList<Category>(count);
+            for (int i = 0; i < count; i++) {
+                final var anId = CategoryID.from(new UUID(body.getLong(), body.getLong()));
+                categories.add(Category.with(
+                        anId,
+                        readString(body),
+                        readString(body),
+                        body.get() != 0,
+                        readInstant(body),
+                        readInstant(body),
+                        readInstant(body)
+                ));
+            }
+            return Optional.of(new Content(watermark, writtenAt, categories));
+        } catch (final BufferUnderflowException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String aValue) throws IOException {
+        if (aValue == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        final var bytes = aValue.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(final DataOutputStream out, final Instant anInstant) throws IOException {
+        out.writeLong(anInstant != null ? anInstant.getEpochSecond() : NULL_SECONDS);
+        out.writeInt(anInstant != null ? anInstant.getNano() : 0);
+    }
+
+    private static Instant readInstant(final ByteBuffer buffer) {
+        final var seconds = buffer.getLong();
+        final var nanos = buffer.getInt();
+        return seconds != NULL_SECONDS ? Instant.ofEpochSecond(seconds, nanos) : null;
+    }
+}
@@ -0,0 +1,198 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps the current CategorySnapshot as a listener of the CategoryChangeFeed: loaded in full once, then updated with
+// what the feed reads (or what this instance wrote) since. A snapshot not caught up for too long is not served.
+// With a CategorySnapshotFile, the snapshot is also written to disk periodically and on shutdown, and read back on start.
+// A CategoryNameTrie of the active names is kept along, updated with the same changes
+public class CategorySnapshotStore implements CategoryChangeListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshotStore.class);
+
+    private final CategoryChangeFeed feed;
+    private final Duration maxStaleness;
+    private final boolean fullTextSearch;
+    private final CategorySnapshotFile file;
+    private final Duration fileWriteInterval;
+    private final Duration fileMaxAge;
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile CategorySnapshot snapshot;
+    private volatile CategoryNameTrie names;
+    private volatile long refreshedAt;
+    private CategorySnapshot written; // Only touched by the polling thread
+    private Instant watermark; // Only touched by the polling thread
+
+    public CategorySnapshotStore(
+            final CategoryChangeFeed feed,
+            final Duration maxStaleness,
+            final boolean fullTextSearch,
+            final CategorySnapshotFile file,
+            final Duration fileWriteInterval,
+            final Duration fileMaxAge
+    ) {
+        this.feed = feed;
+        this.maxStaleness = maxStaleness;
+        this.fullTextSearch = fullTextSearch;
+        this.file = file;
+        this.fileWriteInterval = fileWriteInterval;
+        this.fileMaxAge = fileMaxAge;
+    }
+
+    public static CategorySnapshotStore disabled() {
+        return new CategorySnapshotStore(null, Duration.ZERO, false, null, Duration.ZERO, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return feed != null;
+    }
+
+    // The file (or the table) is read on the polling thread, reads go to the database until it is done. A recent
+    // enough file is served until the first poll has read what changed since (deletions included)
+    public void start() {
+        if (feed == null) {
+            return;
+        }
+        feed.subscribe(this);
+        if (file != null) {
+            feed.every(fileWriteInterval, this::writeFile);
+        }
+    }
+
+    public Optional<CategorySnapshot> current() {
+        final var aSnapshot = this.snapshot;
+        if (aSnapshot == null || System.nanoTime() - refreshedAt > maxStaleness.toNanos()) {
+            return Optional.empty();
+        }
+        return Optional.of(aSnapshot);
+    }
+
+    // Served under the same staleness rule as the snapshot
+    public Optional<CategoryNameTrie> suggestions() {
+        final var aTrie = this.names;
+        if (aTrie == null || current().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(aTrie);
+    }
+
+    @Override
+    public int size() {
+        final var aSnapshot = this.snapshot;
+        return aSnapshot != null ? aSnapshot.size() : 0;
+    }
+
+    // Time since a poll last caught the snapshot up, none before the first load
+    public Optional<Duration> age() {
+        return snapshot != null ? Optional.of(Duration.ofNanos(System.nanoTime() - refreshedAt)) : Optional.empty();
+    }
+
+    // Failed file reads and writes since the start, the failed polls are counted by the feed
+    public long failures() {
+        return failures.get();
+    }
+
+    @Override
+    public Optional<Instant> open() {
+        if (file == null) {
+            return Optional.empty();
+        }
+        try {
+            return file.read()
+                    .filter(content -> content.writtenAt().plus(fileMaxAge).isAfter(Instant.now()))
+                    .map(content -> {
+                        snapshot = CategorySnapshot.of(content.categories(), fullTextSearch);
+                        names = CategoryNameTrie.of(content.categories());
+                        refreshedAt = System.nanoTime();
+                        written = snapshot;
+                        watermark = content.watermark();
+                        return content.watermark();
+                    });
+        } catch (final IOException | RuntimeException ex) {
+            // Loaded from the database instead
+            failed("read the file of", ex);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void load(final CategoryChangeFeed aFeed) {
+        final var categories = new ArrayList<Category>();
+        aFeed.readAll(categories::addAll);
+        snapshot = CategorySnapshot.of(categories, fullTextSearch);
+        names = CategoryNameTrie.of(categories);
+        refreshedAt = System.nanoTime();
+    }
+
+    // Rows held in this version are skipped, as are the ones older than the row held (e.g. a write of this instance
+    // queued while a poll read a later write of another instance). Before the first load, the load reads them
+    @Override
+    public void apply(final Collection<Category> upserts, final Collection<CategoryID> removals) {
+        final var aSnapshot = this.snapshot;
+        if (aSnapshot == null) {
+            return;
+        }
+        final var newer = upserts.stream()
+                .filter(aCategory -> !aSnapshot.contains(aCategory) && !aSnapshot.isOutdated(aCategory))
+                .toList();
+        if (!newer.isEmpty() || !removals.isEmpty()) {
+            snapshot = aSnapshot.with(newer, removals);
+            names.apply(newer, removals);
+        }
+    }
+
+    @Override
+    public Set<CategoryID> ids() {
+        final var aSnapshot = this.snapshot;
+        return aSnapshot != null ? aSnapshot.ids() : Set.of();
+    }
+
+    @Override
+    public void caughtUp(final Instant aWatermark) {
+        watermark = aWatermark;
+        if (snapshot != null) {
+            refreshedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (feed != null && file != null) {
+            feed.await(this::writeFile);
+        }
+    }
+
+    // Skipped when the snapshot did not change since the last write. The watermark written is the one of the last
+    // poll: rows applied after a local commit may be newer, they are read again by the first poll after a restart
+    private void writeFile() {
+        final var aSnapshot = snapshot;
+        if (aSnapshot == null || aSnapshot == written || watermark == null) {
+            return;
+        }
+        try {
+            file.write(aSnapshot.categories(), watermark);
+            written = aSnapshot;
+        } catch (final IOException | RuntimeException ex) {
+            // The previous file stays in place, written again on the next attempt
+            failed("write the file of", ex);
+        }
+    }
+
+    private void failed(final String anAction, final Exception ex) {
+        failures.incrementAndGet();
+        log.warn("Could not {} the category snapshot", anAction, ex);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counter of the category writes done by this instance. Caches keyed by it are invalidated
+// all at once by a single increment, stale entries are simply never looked up again
+public class CategoryWriteGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public long current() {
+        return generation.get();
+    }
+
+    // Bumped now and again once the surrounding transaction (if any) completes, so nothing read
+    // between the write and its commit stays cached
+    public void bump() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+}
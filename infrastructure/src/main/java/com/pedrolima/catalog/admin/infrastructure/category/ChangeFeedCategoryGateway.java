@@ -0,0 +1,91 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+
+// Publishes the writes of this instance to the CategoryChangeFeed once they commit: the rows as written by the
+// delegate, or a reconcile for bulk writes whose affected rows are not known. Reads go straight to the delegate
+public class ChangeFeedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategoryChangeFeed feed;
+
+    public ChangeFeedCategoryGateway(final CategoryGateway delegate, final CategoryChangeFeed feed) {
+        this.delegate = delegate;
+        this.feed = feed;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = delegate.create(aCategory);
+        feed.publishAfterCommit(List.of(created), List.of());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = delegate.createAll(aCategories);
+        feed.publishAfterCommit(created, List.of());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+        feed.publishAfterCommit(List.of(), List.of(anId));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return delegate.findById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = delegate.update(aCategory);
+        feed.publishAfterCommit(List.of(updated), List.of());
+        return updated;
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return delegate.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return delegate.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        final var affected = delegate.bulkUpdate(anAction, aFilter);
+        feed.reconcileAfterCommit();
+        return affected;
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        final var affected = delegate.bulkUpdate(anAction, anIds);
+        feed.reconcileAfterCommit();
+        return affected;
+    }
+}
@@ -0,0 +1,152 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// One text value per row (already folded by TextUtils#fold) stored as a single UTF-8 byte array plus the offset of
+// each row, so a substring search is one scan over contiguous memory instead of one String per row. UTF-8 is
+// self-synchronizing: a byte match of a whole encoded needle is a character match
+class FoldedTextColumn {
+
+    // Scans over more rows than this are split across the common ForkJoin pool, a multiple of 64 so that
+    // no two tasks write the same word of the result
+    static final int ROWS_PER_TASK = 1 << 15;
+
+    private final byte[] bytes;
+    private final int[] offsets;
+
+    private FoldedTextColumn(final byte[] bytes, final int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    // A null value is stored as an empty one, only the empty needle matches it
+    static FoldedTextColumn of(final String[] values) {
+        return new FoldedTextColumn(new byte[0], new int[]{0}).with(new BitSet(), values);
+    }
+
+    // A new column without the dropped rows, the appended values after the remaining ones. The bytes of the
+    // remaining rows are copied a run of rows at a time, only the appended values are encoded
+    FoldedTextColumn with(final BitSet dropped, final String[] appended) {
+        final var encoded = new byte[appended.length][];
+        var appendedLength = 0;
+        for (int i = 0; i < appended.length; i++) {
+            encoded[i] = appended[i] != null ? appended[i].getBytes(StandardCharsets.UTF_8) : new byte[0];
+            appendedLength = Math.addExact(appendedLength, encoded[i].length);
+        }
+
+        var keptLength = 0;
+        var kept = 0;
+        var from = dropped.nextClearBit(0);
+        while (from < size()) {
+            final var to = runEnd(dropped, from);
+            keptLength += offsets[to] - offsets[from];
+            kept += to - from;
+            from = dropped.nextClearBit(to);
+        }
+
+        final var newBytes = new byte[Math.addExact(keptLength, appendedLength)];
+        final var newOffsets = new int[kept + appended.length + 1];
+        var row = 0;
+        from = dropped.nextClearBit(0);
+        while (from < size()) {
+            final var to = runEnd(dropped, from);
+            final var shift = newOffsets[row] - offsets[from];
+            System.arraycopy(bytes, offsets[from], newBytes, newOffsets[row], offsets[to] - offsets[from]);
+            for (int i = from; i < to; i++) {
+                newOffsets[++row] = offsets[i + 1] + shift;
+            }
+            from = dropped.nextClearBit(to);
+        }
+        for (final var value : encoded) {
+            System.arraycopy(value, 0, newBytes, newOffsets[row], value.length);
+            newOffsets[row + 1] = newOffsets[row] + value.length;
+            row++;
+        }
+        return new FoldedTextColumn(newBytes, newOffsets);
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    // Rows whose value contains the (folded) needle, the way LIKE '%needle%' matches without wildcards
+    BitSet matching(final String aNeedle) {
+        return matching(aNeedle, TextScan.preferred());
+    }
+
+    BitSet matching(final String aNeedle, final TextScan aScan) {
+        final var needle = aNeedle.getBytes(StandardCharsets.UTF_8);
+        final var result = new BitSet(size());
+        if (needle.length == 0) {
+            result.set(0, size());
+            return result;
+        }
+
+        final var words = new long[(size() + 63) >>> 6];
+        final var task = new ScanTask(aScan, needle, words, 0, size());
+        if (size() > ROWS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private int runEnd(final BitSet dropped, final int from) {
+        final var next = dropped.nextSetBit(from);
+        return next >= 0 && next < size() ? next : size();
+    }
+
+    // Scans the bytes of rows [from, to) at once: a match crossing the end of a row is skipped, once a row matched
+    // the scan resumes at the next row
+    private void scan(final TextScan aScan, final byte[] needle, final long[] words, final int from, final int to) {
+        final var end = offsets[to];
+        var row = from;
+        var position = offsets[from];
+        while ((position = aScan.indexOf(bytes, position, end, needle)) >= 0) {
+            while (offsets[row + 1] <= position) {
+                row++;
+            }
+            if (position + needle.length <= offsets[row + 1]) {
+                words[row >>> 6] |= 1L << row;
+                position = offsets[row + 1];
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private class ScanTask extends RecursiveAction {
+
+        private final TextScan scan;
+        private final byte[] needle;
+        private final long[] words;
+        private final int from;
+        private final int to;
+
+        private ScanTask(final TextScan scan, final byte[] needle, final long[] words, final int from, final int to) {
+            this.scan = scan;
+            this.needle = needle;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                scan(scan, needle, words, from, to);
+                return;
+            }
+            // Tasks start at a multiple of ROWS_PER_TASK
+            final var middle = from + Math.max(((to - from) / 2) & -ROWS_PER_TASK, ROWS_PER_TASK);
+            invokeAll(
+                    new ScanTask(scan, needle, words, from, middle),
+                    new ScanTask(scan, needle, words, middle, to)
+            );
+        }
+    }
+}
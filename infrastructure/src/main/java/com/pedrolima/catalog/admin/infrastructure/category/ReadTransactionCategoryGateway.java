@@ -0,0 +1,89 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+// Runs the reads in a read only transaction of their own (or joins the current one), which also switches the Hibernate
+// session to FlushMode.MANUAL. Placed under the decorators that can answer without the database (caches, single-flight,
+// snapshot, search index), so only the reads reaching the database begin a transaction and check out a pooled
+// connection. Writes join the transaction of their use case
+public class ReadTransactionCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final TransactionTemplate readOnly;
+
+    public ReadTransactionCategoryGateway(
+            final CategoryGateway delegate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.delegate = delegate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return readOnly.execute(status -> delegate.findById(anId));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return delegate.update(aCategory);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return readOnly.execute(status -> delegate.findAllByIds(anIds));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return readOnly.execute(status -> delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return readOnly.execute(status -> delegate.findAllSummaries(aQuery));
+    }
+
+    // A single query, run without a transaction of its own (on the primary, when a replica is set up)
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        return delegate.bulkUpdate(anAction, aFilter);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        return delegate.bulkUpdate(anAction, anIds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+class ScalarTextScan implements TextScan {
+
+    @Override
+    public int indexOf(final byte[] bytes, final int from, final int to, final byte[] needle) {
+        final var first = needle[0];
+        final var last = to - needle.length;
+        for (int i = from; i <= last; i++) {
+            if (bytes[i] == first && matchesAt(bytes, i, needle)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean matchesAt(final byte[] bytes, final int position, final byte[] needle) {
+        for (int j = 1; j < needle.length; j++) {
+            if (bytes[position + j] != needle[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.apache.lucene.store.AlreadyClosedException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+// Answers searches sorted by relevance from the search index, everything else goes to the delegate. Until the index
+// is first built, relevance searches are answered by the delegate sorted by name. Writes reach the index through the
+// CategoryChangeFeed
+public class SearchIndexCategoryGateway implements CategoryGateway {
+
+    private static final String FALLBACK_SORT = "name";
+
+    private final CategoryGateway delegate;
+    private final CategorySearchIndexer indexer;
+
+    public SearchIndexCategoryGateway(final CategoryGateway delegate, final CategorySearchIndexer indexer) {
+        this.delegate = delegate;
+        this.indexer = indexer;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return delegate.findById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return delegate.update(aCategory);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return delegate.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (!aQuery.isByRelevance()) {
+            return delegate.findAll(aQuery);
+        }
+        return indexer.current()
+                .map(anIndex -> search(anIndex, aQuery))
+                .orElseGet(() -> delegate.findAll(fallbackOf(aQuery)));
+    }
+
+    // Fields are validated and filled like the MySQL projection: the id and the requested ones
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        if (!aQuery.isByRelevance()) {
+            return delegate.findAllSummaries(aQuery);
+        }
+        final var fields = new LinkedHashSet<String>();
+        fields.add("id");
+        aQuery.fields().stream()
+                .sorted()
+                .map(CategoryMySQLGateway::propertyOf)
+                .forEach(fields::add);
+
+        return indexer.current()
+                .map(anIndex -> search(anIndex, aQuery).map(aCategory -> CategorySnapshot.summaryOf(aCategory, fields)))
+                .orElseGet(() -> delegate.findAllSummaries(fallbackOf(aQuery)));
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        return delegate.bulkUpdate(anAction, aFilter);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        return delegate.bulkUpdate(anAction, anIds);
+    }
+
+    // A rebuild may swap (and close) the index between getting it and searching it
+    private Pagination<Category> search(final CategorySearchIndex anIndex, final CategorySearchQuery aQuery) {
+        try {
+            return anIndex.search(aQuery);
+        } catch (final AlreadyClosedException ex) {
+            return indexer.current().orElseThrow(() -> ex).search(aQuery);
+        }
+    }
+
+    private static CategorySearchQuery fallbackOf(final CategorySearchQuery aQuery) {
+        return new CategorySearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.terms(),
+                FALLBACK_SORT,
+                "asc",
+                aQuery.after(),
+                aQuery.withTotal(),
+                aQuery.fields(),
+                aQuery.filter()
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// Concurrent identical reads share one call to the delegate: the first caller runs it, the others wait for its result.
+// Reads done inside a read-write transaction always run on their own, they must see that transaction's writes
+public class SingleFlightCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCategoryGateway(final CategoryGateway delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+    }
+
+    // Categories are mutable, so the callers that waited get their own copies
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return share(
+                new Key("findById", anId),
+                () -> delegate.findById(anId),
+                aCategory -> aCategory.map(Category::with)
+        );
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return delegate.update(aCategory);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return delegate.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return share(
+                new Key("findAll", aQuery.canonical()),
+                () -> delegate.findAll(aQuery),
+                aPage -> aPage.map(Category::with)
+        );
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return share(
+                new Key("findAllSummaries", aQuery.canonical()),
+                () -> delegate.findAllSummaries(aQuery),
+                UnaryOperator.identity()
+        );
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        return delegate.bulkUpdate(anAction, aFilter);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        return delegate.bulkUpdate(anAction, anIds);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T share(final Key aKey, final Supplier<T> aCall, final UnaryOperator<T> copyOf) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return aCall.get();
+        }
+
+        final var aFlight = new CompletableFuture<Object>();
+        final var existing = inFlight.putIfAbsent(aKey, aFlight);
+        if (existing != null) {
+            return copyOf.apply((T) await(existing));
+        }
+
+        try {
+            final var result = aCall.get();
+            aFlight.complete(result);
+            return result;
+        } catch (final RuntimeException | Error ex) {
+            aFlight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(aKey, aFlight);
+        }
+    }
+
+    // The waiting callers get the very exception the call failed with
+    private static Object await(final CompletableFuture<Object> aFlight) {
+        try {
+            return aFlight.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Key(String operation, Object argument) {
+    }
+}
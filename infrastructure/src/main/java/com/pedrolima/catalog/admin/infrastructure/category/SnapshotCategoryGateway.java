@@ -0,0 +1,86 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+
+// Answers lists and searches from the in-memory snapshot (the database while there is none to serve),
+// everything else goes to the delegate. Writes reach the snapshot through the CategoryChangeFeed
+public class SnapshotCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategorySnapshotStore store;
+
+    public SnapshotCategoryGateway(final CategoryGateway delegate, final CategorySnapshotStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return delegate.findById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return delegate.update(aCategory);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return delegate.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return store.current()
+                .map(aSnapshot -> aSnapshot.findAll(aQuery))
+                .orElseGet(() -> delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return store.current()
+                .map(aSnapshot -> aSnapshot.findAllSummaries(aQuery))
+                .orElseGet(() -> delegate.findAllSummaries(aQuery));
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return store.suggestions()
+                .map(aTrie -> aTrie.suggest(aPrefix, limit))
+                .orElseGet(() -> delegate.findSuggestions(aPrefix, limit));
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        return delegate.bulkUpdate(anAction, aFilter);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        return delegate.bulkUpdate(anAction, anIds);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+// Finds a byte sequence in a byte range, the vectorized implementation is used when the JVM runs with
+// --add-modules jdk.incubator.vector, the scalar one otherwise
+interface TextScan {
+
+    TextScan SCALAR = new ScalarTextScan();
+
+    // Start of the first occurrence of the (non empty) needle within [from, to), -1 when there is none
+    int indexOf(byte[] bytes, int from, int to, byte[] needle);
+
+    static TextScan preferred() {
+        return Preferred.SCAN;
+    }
+
+    // The vector classes are only loaded when their module is present. They are loaded by name, as only their own
+    // source set is compiled with the module (see build.gradle)
+    final class Preferred {
+
+        private static final TextScan SCAN = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+                ? vector()
+                : SCALAR;
+
+        private Preferred() {
+        }
+
+        private static TextScan vector() {
+            try {
+                return (TextScan) Class.forName(TextScan.class.getPackageName() + ".VectorTextScan")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (final ReflectiveOperationException | LinkageError ex) {
+                // Not packaged (e.g. a jar built without the vector classes)
+                return SCALAR;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+
+// Bumps the write generation on every create, update and delete going through it
+public class WriteTrackingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategoryWriteGeneration generation;
+
+    public WriteTrackingCategoryGateway(final CategoryGateway delegate, final CategoryWriteGeneration generation) {
+        this.delegate = delegate;
+        this.generation = generation;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return delegate.create(aCategory);
+        } finally {
+            generation.bump();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        try {
+            return delegate.createAll(aCategories);
+        } finally {
+            generation.bump();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            delegate.deleteById(anId);
+        } finally {
+            generation.bump();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return delegate.findById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return delegate.update(aCategory);
+        } finally {
+            generation.bump();
+        }
+    }
+
+    @Override
+    public List<Category> findAllByIds(final List<CategoryID> anIds) {
+        return delegate.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return delegate.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public List<CategorySummary> findSuggestions(final String aPrefix, final int limit) {
+        return delegate.findSuggestions(aPrefix, limit);
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final CategorySearchQuery aFilter) {
+        try {
+            return delegate.bulkUpdate(anAction, aFilter);
+        } finally {
+            generation.bump();
+        }
+    }
+
+    @Override
+    public long bulkUpdate(final CategoryBulkAction anAction, final List<CategoryID> anIds) {
+        try {
+            return delegate.bulkUpdate(anAction, anIds);
+        } finally {
+            generation.bump();
+        }
+    }
+}
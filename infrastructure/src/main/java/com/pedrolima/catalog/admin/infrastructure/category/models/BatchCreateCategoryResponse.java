@@ -0,0 +1,21 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+
+import java.util.List;
+
+public record BatchCreateCategoryResponse(
+        @JsonProperty("created") long created,
+        @JsonProperty("failed") long failed,
+        @JsonProperty("items") List<Item> items
+) {
+
+    public record Item(
+            @JsonProperty("index") int index,
+            @JsonProperty("id") String id,
+            @JsonProperty("errors") List<Error> errors
+    ) {
+
+    }
+}
@@ -0,0 +1,14 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkUpdateCategoryRequest(
+        @JsonProperty("action") String action,
+        @JsonProperty("search") String search,
+        @JsonProperty("filter") CategoryFilterRequest filter,
+        @JsonProperty("ids") List<String> ids
+) {
+
+}
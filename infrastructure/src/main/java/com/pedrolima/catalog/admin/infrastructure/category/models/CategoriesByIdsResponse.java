@@ -0,0 +1,12 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoriesByIdsResponse(
+        @JsonProperty("items") List<CategoryResponse> items,
+        @JsonProperty("missing") List<String> missing
+) {
+
+}
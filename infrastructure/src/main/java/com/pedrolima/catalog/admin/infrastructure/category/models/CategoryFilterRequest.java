@@ -0,0 +1,17 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record CategoryFilterRequest(
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_from") Instant createdFrom,
+        @JsonProperty("created_to") Instant createdTo,
+        @JsonProperty("updated_from") Instant updatedFrom,
+        @JsonProperty("updated_to") Instant updatedTo,
+        @JsonProperty("name") String name,
+        @JsonProperty("name_prefix") String namePrefix
+) {
+
+}
@@ -1,16 +1,22 @@
 package com.pedrolima.catalog.admin.infrastructure.category.models;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
 
+// Written in full unless the listing asks for a sparse fieldset (see SparseFieldsResponseBodyAdvice)
+@JsonFilter(CategoryListResponse.FIELDS_FILTER)
 public record CategoryListResponse(
         @JsonProperty("id") String id,
         @JsonProperty("name") String name,
         @JsonProperty("description") String description,
         @JsonProperty("is_active") Boolean active,
         @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
         @JsonProperty("deleted_at") Instant deletedAt
 ) {
 
+    public static final String FIELDS_FILTER = "categoryListFields";
+
 }
@@ -0,0 +1,10 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategorySuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+
+}
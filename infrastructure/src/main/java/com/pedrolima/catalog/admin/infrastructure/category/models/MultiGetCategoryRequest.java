@@ -0,0 +1,11 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record MultiGetCategoryRequest(
+        @JsonProperty("ids") List<String> ids
+) {
+
+}
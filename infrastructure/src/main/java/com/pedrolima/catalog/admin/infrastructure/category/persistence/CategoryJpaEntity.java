@@ -2,23 +2,43 @@ package com.pedrolima.catalog.admin.infrastructure.category.persistence;
 
 import com.pedrolima.catalog.admin.domain.category.Category;
 import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.utils.TextUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
+import java.util.UUID;
 
+// Loads by id go through the second-level cache (when enabled, see SecondLevelCacheConfig). Read-write entries are
+// locked while a transaction changes the row and replaced on its commit
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+public class CategoryJpaEntity implements Persistable<UUID> {
+
+    public static final String CACHE_REGION = "category";
 
     @Id
-    private String id;
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    // Normalized copy of the name (see TextUtils#normalize), indexed for case and accent insensitive lookups
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Column(name = "description", length = 4000)
     private String description;
 
@@ -32,11 +52,16 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // Ids are assigned by the domain, so Spring Data can not tell a new entity by its id and would merge
+    // (SELECT then INSERT). Built entities are new until persisted, loaded ones never are
+    @Transient
+    private boolean isNew = true;
+
     public CategoryJpaEntity() {
     }
 
     public CategoryJpaEntity(
-            final String id,
+            final UUID id,
             final String name,
             final String description,
             final boolean active,
@@ -46,6 +71,7 @@ public class CategoryJpaEntity {
     ) {
         this.id = id;
         this.name = name;
+        this.nameSearch = TextUtils.normalize(name);
         this.description = description;
         this.active = active;
         this.createdAt = createdAt;
@@ -55,7 +81,7 @@ public class CategoryJpaEntity {
 
     public static CategoryJpaEntity from(final Category aCategory) {
         return new CategoryJpaEntity(
-                aCategory.getId().getValue(),
+                idOf(aCategory.getId()),
                 aCategory.getName(),
                 aCategory.getDescription(),
                 aCategory.isActive(),
@@ -65,6 +91,13 @@ public class CategoryJpaEntity {
         );
     }
 
+    public static UUID idOf(final CategoryID anId) {
+        if (!anId.isUuid()) {
+            throw new IllegalArgumentException("'%s' is not a valid category id".formatted(anId.getValue()));
+        }
+        return new UUID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -77,11 +110,23 @@ public class CategoryJpaEntity {
         );
     }
 
-    public String getId() {
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @Override
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -91,6 +136,11 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameSearch = TextUtils.normalize(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public String getDescription() {
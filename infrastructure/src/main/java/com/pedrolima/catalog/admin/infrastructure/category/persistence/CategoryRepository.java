@@ -1,11 +1,34 @@
 package com.pedrolima.catalog.admin.infrastructure.category.persistence;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+import static org.hibernate.annotations.QueryHints.CACHE_MODE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, UUID>, CategoryRepositoryCustom {
+
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    // Snapshot loads: no dirty checking snapshot is kept and the second-level cache is neither read nor filled
+    @Query("SELECT c FROM CategoryJpaEntity c WHERE c.updatedAt >= :since")
+    @QueryHints({@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = CACHE_MODE, value = "IGNORE")})
+    List<CategoryJpaEntity> findAllUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT c.id FROM CategoryJpaEntity c")
+    List<UUID> findAllIds();
+
+    // Keyset chunks in id order, bulk reads of the whole table without OFFSET
+    @Query("SELECT c FROM CategoryJpaEntity c WHERE c.id > :after ORDER BY c.id")
+    @QueryHints({@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = CACHE_MODE, value = "IGNORE")})
+    List<CategoryJpaEntity> findChunkAfter(@Param("after") UUID after, Pageable aPage);
 }
@@ -0,0 +1,30 @@
+package com.pedrolima.catalog.admin.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.Tuple;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CategoryRepositoryCustom {
+
+    Slice<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    Slice<Tuple> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page, List<String> properties);
+
+    Optional<Long> estimateCount();
+
+    List<CategoryJpaEntity> insertAll(List<CategoryJpaEntity> entities);
+
+    int updateById(CategoryJpaEntity anEntity);
+
+    int removeById(UUID anId);
+
+    int updateActiveWhere(Specification<CategoryJpaEntity> whereClause, boolean active, Instant now);
+
+    int deleteWhere(Specification<CategoryJpaEntity> whereClause);
+}
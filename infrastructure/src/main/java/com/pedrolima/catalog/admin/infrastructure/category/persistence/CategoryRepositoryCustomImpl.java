@@ -0,0 +1,219 @@
+package com.pedrolima.catalog.admin.infrastructure.category.persistence;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private static final String ESTIMATE_COUNT_SQL = """
+            SELECT TABLE_ROWS FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryRepositoryCustomImpl(final EntityManager entityManager, final JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Fetches one extra row to know if there is a next page, so no COUNT(*) companion query is needed
+    @Override
+    public Slice<CategoryJpaEntity> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable page
+    ) {
+        final var query = entityManager.getCriteriaBuilder().createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+        return slice(query, root, whereClause, page);
+    }
+
+    // Same slice, but only the given properties are selected, each one aliased by its own name
+    @Override
+    public Slice<Tuple> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable page,
+            final List<String> properties
+    ) {
+        final var query = entityManager.getCriteriaBuilder().createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+        query.multiselect(properties.stream()
+                .<Selection<?>>map(property -> root.get(property).alias(property))
+                .toList());
+        return slice(query, root, whereClause, page);
+    }
+
+    // Table statistics kept by InnoDB, cheap but approximate. Not every database exposes them (e.g. H2)
+    @Override
+    public Optional<Long> estimateCount() {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(ESTIMATE_COUNT_SQL, Long.class));
+        } catch (final DataAccessException ex) {
+            return Optional.empty();
+        }
+    }
+
+    // persist() issues plain INSERTs (save() would merge, i.e. SELECT every assigned id first),
+    // which Hibernate groups into JDBC batches of hibernate.jdbc.batch_size on flush
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> insertAll(final List<CategoryJpaEntity> entities) {
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        entities.forEach(entityManager::detach);
+        return entities;
+    }
+
+    // Single UPDATE ... WHERE id = ?, no SELECT of the current row first and a missing row is only a count of 0,
+    // the transaction is left as is. The entry of the row is evicted from the second-level cache explicitly, rather
+    // than relying on the region eviction Hibernate does for bulk statements
+    @Override
+    @Transactional
+    public int updateById(final CategoryJpaEntity anEntity) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        update.set(root.<String>get("name"), anEntity.getName());
+        update.set(root.<String>get("nameSearch"), anEntity.getNameSearch());
+        update.set(root.<String>get("description"), valueOf(anEntity.getDescription(), String.class));
+        update.set(root.<Boolean>get("active"), anEntity.isActive());
+        update.set(root.<Instant>get("updatedAt"), anEntity.getUpdatedAt());
+        update.set(root.<Instant>get("deletedAt"), valueOf(anEntity.getDeletedAt(), Instant.class));
+        update.where(cb.equal(root.get("id"), anEntity.getId()));
+
+        return executeById(entityManager.createQuery(update), anEntity.getId());
+    }
+
+    // Single DELETE ... WHERE id = ?, the repository deleteById loads the entity before removing it
+    @Override
+    @Transactional
+    public int removeById(final UUID anId) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var delete = cb.createCriteriaDelete(CategoryJpaEntity.class);
+        final var root = delete.from(CategoryJpaEntity.class);
+
+        delete.where(cb.equal(root.get("id"), anId));
+
+        return executeById(entityManager.createQuery(delete), anId);
+    }
+
+    // Single UPDATE ... WHERE, only rows whose state changes are touched (and counted).
+    // Deactivation keeps an existing deleted_at, like Category#deactivate
+    @Override
+    @Transactional
+    public int updateActiveWhere(
+            final Specification<CategoryJpaEntity> whereClause,
+            final boolean active,
+            final Instant now
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        update.set(root.<Boolean>get("active"), active);
+        update.set(root.<Instant>get("updatedAt"), now);
+        update.set(root.<Instant>get("deletedAt"), active
+                ? cb.nullLiteral(Instant.class)
+                : cb.coalesce(root.<Instant>get("deletedAt"), now));
+
+        final var stateChanges = cb.notEqual(root.<Boolean>get("active"), active);
+        update.where(and(stateChanges, predicateOf(whereClause, root)));
+
+        return executeBulk(entityManager.createQuery(update));
+    }
+
+    // Single DELETE ... WHERE
+    @Override
+    @Transactional
+    public int deleteWhere(final Specification<CategoryJpaEntity> whereClause) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var delete = cb.createCriteriaDelete(CategoryJpaEntity.class);
+        final var root = delete.from(CategoryJpaEntity.class);
+
+        final var predicate = predicateOf(whereClause, root);
+        if (predicate != null) {
+            delete.where(predicate);
+        }
+
+        return executeBulk(entityManager.createQuery(delete));
+    }
+
+    // Bulk statements bypass the persistence context, so pending changes go first and managed copies are dropped after
+    // (same as @Modifying(flushAutomatically = true, clearAutomatically = true)). Hibernate evicts the second-level
+    // cache region of the category both before the statement and after the transaction completes
+    private int executeBulk(final Query aStatement) {
+        entityManager.flush();
+        final var affected = aStatement.executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+
+    private int executeById(final Query aStatement, final UUID anId) {
+        final var affected = executeBulk(aStatement);
+        entityManager.getEntityManagerFactory().getCache().evict(CategoryJpaEntity.class, anId);
+        return affected;
+    }
+
+    // The specifications used here only rely on the root and the criteria builder, never on the (select) query
+    private Predicate predicateOf(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Root<CategoryJpaEntity> root
+    ) {
+        return whereClause != null ? whereClause.toPredicate(root, null, entityManager.getCriteriaBuilder()) : null;
+    }
+
+    private <T> Slice<T> slice(
+            final CriteriaQuery<T> query,
+            final Root<CategoryJpaEntity> root,
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable page
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        final var rows = entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+    }
+
+    private <Y> Expression<Y> valueOf(final Y aValue, final Class<Y> aType) {
+        final var cb = entityManager.getCriteriaBuilder();
+        return aValue != null ? cb.literal(aValue) : cb.nullLiteral(aType);
+    }
+
+    private Predicate and(final Predicate first, final Predicate second) {
+        return second != null ? entityManager.getCriteriaBuilder().and(first, second) : first;
+    }
+}
@@ -1,9 +1,21 @@
 package com.pedrolima.catalog.admin.infrastructure.category.presenters;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.pedrolima.catalog.admin.application.category.create.batch.CreateCategoriesOutput;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.CategoriesByIdsOutput;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BatchCreateCategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategoriesByIdsResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategorySuggestionResponse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 public interface CategoryApiPresenter {
 
@@ -19,6 +31,13 @@ public interface CategoryApiPresenter {
         );
     }
 
+    static CategoriesByIdsResponse present(final CategoriesByIdsOutput output) {
+        return new CategoriesByIdsResponse(
+                output.items().stream().map(CategoryApiPresenter::present).toList(),
+                output.missing()
+        );
+    }
+
     static CategoryListResponse present(final CategoryListOutput output) {
         return new CategoryListResponse(
                 output.id().getValue(),
@@ -26,7 +45,39 @@ public interface CategoryApiPresenter {
                 output.description(),
                 output.isActive(),
                 output.createdAt(),
+                output.updatedAt(),
                 output.deletedAt()
         );
     }
+
+    // Sparse fieldset: the id and the requested fields only, by their names in CategoryListResponse
+    static SimpleBeanPropertyFilter fieldsFilter(final Set<String> fields) {
+        final var properties = new HashSet<String>();
+        properties.add("id");
+        for (final var field : fields) {
+            properties.add(switch (field) {
+                case "active" -> "is_active";
+                case "createdAt" -> "created_at";
+                case "updatedAt" -> "updated_at";
+                case "deletedAt" -> "deleted_at";
+                default -> field;
+            });
+        }
+        return SimpleBeanPropertyFilter.filterOutAllExcept(properties);
+    }
+
+    static CategorySuggestionResponse present(final CategorySuggestionOutput output) {
+        return new CategorySuggestionResponse(output.id().getValue(), output.name());
+    }
+
+    static BatchCreateCategoryResponse present(final CreateCategoriesOutput output) {
+        final var items = IntStream.range(0, output.items().size())
+                .mapToObj(index -> output.items().get(index).fold(
+                        notification -> new BatchCreateCategoryResponse.Item(index, null, notification.getErrors()),
+                        created -> new BatchCreateCategoryResponse.Item(index, created.id(), List.of())
+                ))
+                .toList();
+
+        return new BatchCreateCategoryResponse(output.created(), output.failed(), items);
+    }
 }
@@ -0,0 +1,31 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.pedrolima.catalog.admin.infrastructure.category.CategoryChangeFeed;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class CategoryChangeFeedConfig {
+
+    // Idle until the snapshot or the search index subscribes to it
+    @Bean(destroyMethod = "close")
+    public CategoryChangeFeed categoryChangeFeed(
+            @Value("${persistence.changes.poll-interval:1s}") final Duration pollInterval,
+            @Value("${persistence.changes.poll-overlap:5s}") final Duration pollOverlap,
+            @Value("${persistence.changes.reconcile-every:0}") final int reconcileEvery,
+            @Value("${persistence.changes.chunk-size:1000}") final int chunkSize,
+            final CategoryRepository repository,
+            final PlatformTransactionManager transactionManager
+    ) {
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return new CategoryChangeFeed(repository, transactionTemplate, pollInterval, pollOverlap, reconcileEvery, chunkSize);
+    }
+}
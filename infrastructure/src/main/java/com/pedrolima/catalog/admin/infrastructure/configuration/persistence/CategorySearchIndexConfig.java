@@ -0,0 +1,63 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.pedrolima.catalog.admin.infrastructure.category.CategoryChangeFeed;
+import com.pedrolima.catalog.admin.infrastructure.category.CategorySearchIndexer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class CategorySearchIndexConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategorySearchIndexer categorySearchIndexer(
+            @Value("${persistence.search.index.enabled:false}") final boolean enabled,
+            @Value("${persistence.search.index.path:${java.io.tmpdir}/catalog-admin/category-index}") final String path,
+            @Value("${persistence.search.index.commit-interval:1m}") final Duration commitInterval,
+            final CategoryChangeFeed changeFeed
+    ) {
+        if (!enabled) {
+            return CategorySearchIndexer.disabled();
+        }
+
+        final var indexer = new CategorySearchIndexer(Path.of(path), changeFeed, commitInterval);
+        indexer.start();
+        return indexer;
+    }
+
+    // GET /actuator/categorysearchindex for its size, POST to rebuild it from the database in background.
+    // Not exposed over HTTP by default, see management.endpoints.web.exposure
+    @Bean
+    @ConditionalOnProperty(name = "persistence.search.index.enabled", havingValue = "true")
+    public CategorySearchIndexEndpoint categorySearchIndexEndpoint(final CategorySearchIndexer indexer) {
+        return new CategorySearchIndexEndpoint(indexer);
+    }
+
+    @Endpoint(id = "categorysearchindex")
+    public static class CategorySearchIndexEndpoint {
+
+        private final CategorySearchIndexer indexer;
+
+        public CategorySearchIndexEndpoint(final CategorySearchIndexer indexer) {
+            this.indexer = indexer;
+        }
+
+        @ReadOperation
+        public Map<String, Object> info() {
+            return Map.of("ready", indexer.current().isPresent(), "size", indexer.size(), "rebuilding", indexer.isRebuilding());
+        }
+
+        @WriteOperation
+        public Map<String, Object> rebuild() {
+            return Map.of("started", indexer.rebuild());
+        }
+    }
+}
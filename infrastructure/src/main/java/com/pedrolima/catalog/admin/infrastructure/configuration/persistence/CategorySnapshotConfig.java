@@ -0,0 +1,41 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.pedrolima.catalog.admin.infrastructure.category.CategoryChangeFeed;
+import com.pedrolima.catalog.admin.infrastructure.category.CategorySnapshotFile;
+import com.pedrolima.catalog.admin.infrastructure.category.CategorySnapshotStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class CategorySnapshotConfig {
+
+    @Bean(destroyMethod = "close")
+    public CategorySnapshotStore categorySnapshotStore(
+            @Value("${persistence.snapshot.enabled:false}") final boolean enabled,
+            @Value("${persistence.snapshot.max-staleness:30s}") final Duration maxStaleness,
+            @Value("${persistence.snapshot.file.path:}") final String filePath,
+            @Value("${persistence.snapshot.file.write-interval:1m}") final Duration fileWriteInterval,
+            @Value("${persistence.snapshot.file.max-age:1h}") final Duration fileMaxAge,
+            @Value("${persistence.search.full-text:false}") final boolean fullTextSearch,
+            final CategoryChangeFeed changeFeed
+    ) {
+        if (!enabled) {
+            return CategorySnapshotStore.disabled();
+        }
+
+        final var store = new CategorySnapshotStore(
+                changeFeed,
+                maxStaleness,
+                fullTextSearch,
+                filePath.isBlank() ? null : new CategorySnapshotFile(Path.of(filePath)),
+                fileWriteInterval,
+                fileMaxAge
+        );
+        store.start();
+        return store;
+    }
+}
@@ -0,0 +1,73 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ConcurrentQueryConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ConcurrentQueryExecutor concurrentQueryExecutor(
+            @Value("${persistence.concurrent-count.enabled:false}") final boolean enabled,
+            @Value("${persistence.concurrent-count.threads:0}") final int threads,
+            final DataSource dataSource,
+            @Qualifier("replicaDataSource") final ObjectProvider<DataSource> replicaDataSource,
+            final PlatformTransactionManager transactionManager
+    ) {
+        if (!enabled) {
+            return ConcurrentQueryExecutor.serial();
+        }
+
+        // The forked queries run in read only transactions, taken to the replica when there is one (see
+        // ReplicaRoutingDataSource). Unwrapped, as the data source may be a proxy in front of the pool
+        final var pool = poolOf(replicaDataSource.getIfAvailable(() -> dataSource));
+
+        // Never let concurrent counts take more than a quarter of the pool away from the request threads
+        final var maxThreads = threads > 0 ? threads : Math.max(1, pool != null ? pool.getMaximumPoolSize() / 4 : 1);
+
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // No queue: when every thread is busy the submission is rejected and the count runs serially
+        final var counter = new AtomicInteger();
+        final var executor = new ThreadPoolExecutor(
+                0,
+                maxThreads,
+                60,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    final var thread = new Thread(runnable, "concurrent-query-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        return new ConcurrentQueryExecutor(executor, transactionTemplate, pool);
+    }
+
+    private static HikariDataSource poolOf(final DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (final SQLException ex) {
+            // Not a Hikari pool, the saturation is not checked
+            return null;
+        }
+    }
+}
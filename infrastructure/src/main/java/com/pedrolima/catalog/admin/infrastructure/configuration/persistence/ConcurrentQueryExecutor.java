@@ -0,0 +1,91 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+// Runs auxiliary read queries (e.g. page counts) on their own pooled connection while the caller runs the main one.
+// Falls back to running them on the caller thread when disabled, when its threads are busy or when the pool is saturated.
+public class ConcurrentQueryExecutor {
+
+    private final ExecutorService executor;
+    private final TransactionTemplate transactionTemplate;
+    private final HikariDataSource pool;
+
+    public ConcurrentQueryExecutor(
+            final ExecutorService executor,
+            final TransactionTemplate transactionTemplate,
+            final HikariDataSource pool
+    ) {
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.pool = pool;
+    }
+
+    public static ConcurrentQueryExecutor serial() {
+        return new ConcurrentQueryExecutor(null, null, null);
+    }
+
+    public <T> Supplier<T> fork(final Supplier<T> aQuery) {
+        if (executor == null || isPoolSaturated()) {
+            return aQuery;
+        }
+
+        // The pool thread reads from where the caller thread would, e.g. the primary for a client that just wrote
+        final var pinnedToPrimary = ReplicaRoutingDataSource.isPinnedToPrimary();
+        try {
+            final var future = CompletableFuture.supplyAsync(
+                    () -> routed(pinnedToPrimary, () -> transactionTemplate.execute(status -> aQuery.get())),
+                    executor
+            );
+            return () -> join(future);
+        } catch (final RejectedExecutionException ex) {
+            return aQuery;
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private static <T> T routed(final boolean pinnedToPrimary, final Supplier<T> aQuery) {
+        if (!pinnedToPrimary) {
+            return aQuery.get();
+        }
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            return aQuery.get();
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private boolean isPoolSaturated() {
+        if (pool == null || pool.getHikariPoolMXBean() == null) {
+            return false;
+        }
+
+        final var stats = pool.getHikariPoolMXBean();
+        return stats.getThreadsAwaitingConnection() > 0
+                || (stats.getIdleConnections() == 0 && stats.getTotalConnections() >= pool.getMaximumPoolSize());
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+// Exposes MySQL full text search to JPQL / Criteria queries, registered through hibernate.metadata_builder_contributor
+public class FullTextFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(MATCH_AGAINST, matchAgainst());
+    }
+
+    // match_against(first, second, phrase)
+    public static SQLFunctionTemplate matchAgainst() {
+        return new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH(?1, ?2) AGAINST(?3 IN BOOLEAN MODE)");
+    }
+}
@@ -0,0 +1,76 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+// Replicas lag behind the primary, so a client that just wrote would not always read its own write back.
+// Every write request stamps the client with a cookie, and its reads stay on the primary while the stamp is recent.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_COOKIE = "last_write_at";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(final Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var now = System.currentTimeMillis();
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            final var cookie = new Cookie(LAST_WRITE_COOKIE, String.valueOf(now));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        final var pinned = lastWriteOf(request)
+                .filter(lastWrite -> now - lastWrite < window.toMillis())
+                .isPresent();
+
+        if (!pinned) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            ReplicaRoutingDataSource.pinToPrimary();
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private static Optional<Long> lastWriteOf(final HttpServletRequest request) {
+        return Optional.ofNullable(WebUtils.getCookie(request, LAST_WRITE_COOKIE))
+                .map(Cookie::getValue)
+                .flatMap(ReadYourWritesFilter::parse);
+    }
+
+    private static Optional<Long> parse(final String aValue) {
+        try {
+            return Optional.of(Long.parseLong(aValue));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Replaces the auto configured pool by a primary pool and a replica pool behind a routing DataSource
+@Configuration
+@ConditionalOnProperty(name = "persistence.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("persistence.replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${persistence.replica.datasource.url}") final String url,
+            @Value("${persistence.replica.datasource.username:${spring.datasource.username:}}") final String username,
+            @Value("${persistence.replica.datasource.password:${spring.datasource.password:}}") final String password
+    ) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica
+    ) {
+        final var routingDataSource = new ReplicaRoutingDataSource(primary, replica);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${persistence.replica.read-your-writes-window:5s}") final Duration window
+    ) {
+        return new ReadYourWritesFilter(window);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Read only transactions go to the replica, everything else (writes, no transaction, pinned clients) to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy: the transaction is only flagged read only after it begins,
+// so the route can only be decided when the first statement asks for the real connection.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    // Reads of the current thread go to the primary until unpin(), e.g. a client that just wrote
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(true);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get();
+    }
+
+    public static Route currentRoute() {
+        final var readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && !PINNED_TO_PRIMARY.get() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
@@ -0,0 +1,50 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Region statistics come from hibernate.generate_statistics, actuator publishes them as hibernate.second.level.cache.*
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${persistence.second-level-cache.enabled:false}") final boolean enabled,
+            @Value("${persistence.second-level-cache.category.maximum-size:10000}") final long maximumSize,
+            @Value("${persistence.second-level-cache.category.ttl:10m}") final Duration ttl
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, cacheManager(maximumSize, ttl));
+            }
+        };
+    }
+
+    // Regions are sized from the application properties instead of a caffeine.jcache config file. The provider keeps
+    // one manager per class loader, so a region created by another application context (e.g. in tests) is reused
+    private static CacheManager cacheManager(final long maximumSize, final Duration ttl) {
+        final var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        if (cacheManager.getCache(CategoryJpaEntity.CACHE_REGION) == null) {
+            final var configuration = new CaffeineConfiguration<Object, Object>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(CategoryJpaEntity.CACHE_REGION, configuration);
+        }
+        return cacheManager;
+    }
+}
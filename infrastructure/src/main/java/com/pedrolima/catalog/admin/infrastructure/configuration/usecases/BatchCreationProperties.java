@@ -0,0 +1,14 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConstructorBinding
+@ConfigurationProperties("persistence.batch")
+public record BatchCreationProperties(
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("10000") int maxItems
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@ConfigurationProperties("cache.category-by-id")
+public record CategoryByIdCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("5s") Duration negativeTtl
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConstructorBinding
+@ConfigurationProperties("cache.category-list")
+public record CategoryListCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("1m") Duration ttl,
+        @DefaultValue("0s") Duration refreshAfter
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConstructorBinding
+@ConfigurationProperties("persistence.multi-get")
+public record MultiGetProperties(
+        @DefaultValue("10000") int maxIds
+) {
+
+}
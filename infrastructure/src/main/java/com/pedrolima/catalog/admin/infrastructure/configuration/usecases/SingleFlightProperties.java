@@ -0,0 +1,13 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConstructorBinding
+@ConfigurationProperties("persistence.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("false") boolean enabled
+) {
+
+}
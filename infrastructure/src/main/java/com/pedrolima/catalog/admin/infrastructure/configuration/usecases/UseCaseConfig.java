@@ -2,49 +2,232 @@ package com.pedrolima.catalog.admin.infrastructure.configuration.usecases;
 
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.create.batch.CreateCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.create.batch.DefaultCreateCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.DefaultGetCategoriesByIdsUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.GetCategoriesByIdsUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.update.bulk.DefaultBulkUpdateCategoriesUseCase;
 import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.CachedCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.CachedListCategoriesUseCase;
+import com.pedrolima.catalog.admin.infrastructure.category.CategoryChangeFeed;
+import com.pedrolima.catalog.admin.infrastructure.category.CategorySearchIndexer;
+import com.pedrolima.catalog.admin.infrastructure.category.CategorySnapshotStore;
+import com.pedrolima.catalog.admin.infrastructure.category.CategoryWriteGeneration;
+import com.pedrolima.catalog.admin.infrastructure.category.ChangeFeedCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.ReadTransactionCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.SearchIndexCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.SingleFlightCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.SnapshotCategoryGateway;
+import com.pedrolima.catalog.admin.infrastructure.category.WriteTrackingCategoryGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.vavr.control.Either;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
 
 @Configuration
+@EnableConfigurationProperties({
+        BatchCreationProperties.class,
+        MultiGetProperties.class,
+        SuggestProperties.class,
+        SingleFlightProperties.class,
+        CategoryByIdCacheProperties.class,
+        CategoryListCacheProperties.class
+})
 public class UseCaseConfig {
 
+    // A use case returns its errors (a Left notification) instead of throwing them, its writes are rolled back all the
+    // same. Marked locally, so the commit rolls back quietly even when a repository call failed inside the Try and
+    // marked the transaction globally (which would otherwise end in an UnexpectedRollbackException)
+    private static final MethodInterceptor ROLLBACK_ON_LEFT = invocation -> {
+        final var result = invocation.proceed();
+        if (result instanceof Either<?, ?> anEither && anEither.isLeft()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return result;
+    };
+
     private final CategoryGateway categoryGateway;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final BatchCreationProperties batchProperties;
+    private final MultiGetProperties multiGetProperties;
+    private final SuggestProperties suggestProperties;
+    private final CategoryListCacheProperties listCacheProperties;
+    private final CategoryWriteGeneration writeGeneration;
+
+    public UseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final PlatformTransactionManager transactionManager,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            final CategoryChangeFeed changeFeed,
+            final CategorySnapshotStore snapshotStore,
+            final CategorySearchIndexer searchIndexer,
+            final BatchCreationProperties batchProperties,
+            final MultiGetProperties multiGetProperties,
+            final SuggestProperties suggestProperties,
+            final SingleFlightProperties singleFlightProperties,
+            final CategoryByIdCacheProperties cacheProperties,
+            final CategoryListCacheProperties listCacheProperties
+    ) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.batchProperties = batchProperties;
+        this.multiGetProperties = multiGetProperties;
+        this.suggestProperties = suggestProperties;
+        this.listCacheProperties = listCacheProperties;
+        this.writeGeneration = new CategoryWriteGeneration();
 
-    public UseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+        // The decorators are not beans of their own: the gateway bean stays the only CategoryGateway
+        // (e.g. for @SpyBean in tests) and only the use cases go through them
+        CategoryGateway aGateway = new ReadTransactionCategoryGateway(categoryGateway, transactionManager);
+        if (snapshotStore.isEnabled() || searchIndexer.isEnabled()) {
+            aGateway = new ChangeFeedCategoryGateway(aGateway, changeFeed);
+            meterRegistry.ifAvailable(registry -> FunctionCounter.builder("category.changes.failures", changeFeed, CategoryChangeFeed::failures)
+                    .register(registry));
+        }
+        if (snapshotStore.isEnabled()) {
+            aGateway = new SnapshotCategoryGateway(aGateway, snapshotStore);
+            meterRegistry.ifAvailable(registry -> {
+                registry.gauge("category.snapshot.size", snapshotStore, CategorySnapshotStore::size);
+                registry.gauge("category.snapshot.age", snapshotStore, store -> store.age()
+                        .map(age -> age.toMillis() / 1000d)
+                        .orElse(Double.NaN));
+                FunctionCounter.builder("category.snapshot.failures", snapshotStore, CategorySnapshotStore::failures)
+                        .register(registry);
+            });
+        }
+        if (searchIndexer.isEnabled()) {
+            aGateway = new SearchIndexCategoryGateway(aGateway, searchIndexer);
+            meterRegistry.ifAvailable(registry -> {
+                registry.gauge("category.search.index.size", searchIndexer, CategorySearchIndexer::size);
+                FunctionCounter.builder("category.search.index.failures", searchIndexer, CategorySearchIndexer::failures)
+                        .register(registry);
+            });
+        }
+        if (singleFlightProperties.enabled()) {
+            aGateway = new SingleFlightCategoryGateway(aGateway);
+        }
+        if (listCacheProperties.enabled()) {
+            aGateway = new WriteTrackingCategoryGateway(aGateway, writeGeneration);
+        }
+        // Outermost, so a by-id hit neither waits on single-flight nor begins a transaction
+        if (cacheProperties.enabled()) {
+            final var cached = new CachedCategoryGateway(
+                    aGateway,
+                    cacheProperties.maximumSize(),
+                    cacheProperties.ttl(),
+                    cacheProperties.negativeTtl()
+            );
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cached.cache(), "category-by-id"));
+            aGateway = cached;
+        }
+        this.categoryGateway = aGateway;
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return readWrite(new DefaultCreateCategoryUseCase(categoryGateway));
+    }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        // No enclosing transaction: every chunk commits (or fails) on its own
+        return new DefaultCreateCategoriesUseCase(
+                categoryGateway,
+                batchProperties.chunkSize(),
+                batchProperties.maxItems()
+        );
     }
 
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        return readWrite(new DefaultUpdateCategoryUseCase(categoryGateway));
+    }
+
+    @Bean
+    public BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase() {
+        return readWrite(new DefaultBulkUpdateCategoriesUseCase(categoryGateway));
     }
 
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
+        // No enclosing transaction: the read begins its own under the cache and single-flight layers (see
+        // ReadTransactionCategoryGateway), a cached or shared result takes no connection at all
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway, multiGetProperties.maxIds());
+    }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        // No enclosing transaction: a suggestion served from the snapshot takes no connection at all,
+        // the database fallback runs its single query on its own (on the primary, when a replica is set up)
+        return new DefaultSuggestCategoriesUseCase(categoryGateway, suggestProperties.maxLimit());
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return readWrite(new DefaultDeleteCategoryUseCase(categoryGateway));
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        final var aUseCase = new DefaultListCategoriesUseCase(categoryGateway);
+        if (!listCacheProperties.enabled()) {
+            return aUseCase;
+        }
+
+        // A cached page does not even reach the gateway
+        final var cached = new CachedListCategoriesUseCase(
+                aUseCase,
+                writeGeneration,
+                listCacheProperties.maximumSize(),
+                listCacheProperties.ttl(),
+                listCacheProperties.refreshAfter()
+        );
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cached.cache(), "category-list"));
+        return cached;
+    }
+
+    // One transaction, and so one pooled connection, around the whole use case execution
+    // instead of one per repository call
+    @SuppressWarnings("unchecked")
+    private <T> T readWrite(final T aUseCase) {
+        final var attributeSource = new MatchAlwaysTransactionAttributeSource();
+        attributeSource.setTransactionAttribute(new RuleBasedTransactionAttribute());
+
+        // Use cases are classes, not interfaces, so the proxy subclasses them
+        final var proxyFactory = new ProxyFactory(aUseCase);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager, attributeSource));
+        proxyFactory.addAdvice(ROLLBACK_ON_LEFT);
+        return (T) proxyFactory.getProxy();
     }
 }
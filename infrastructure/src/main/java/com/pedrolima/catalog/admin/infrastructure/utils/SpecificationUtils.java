@@ -1,9 +1,16 @@
 package com.pedrolima.catalog.admin.infrastructure.utils;
 
+import com.pedrolima.catalog.admin.infrastructure.configuration.persistence.FullTextFunctionsContributor;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import java.util.Collection;
+
 public final class SpecificationUtils {
 
+    // Not a backslash, MySQL would read ESCAPE '\' as an unterminated string literal
+    private static final char LIKE_ESCAPE = '!';
+
     private SpecificationUtils() {
     }
 
@@ -11,6 +18,79 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(property)), like(term).toUpperCase());
     }
 
+    public static <T> Specification<T> in(final String property, final Collection<?> values) {
+        return (root, query, cb) -> root.get(property).in(values);
+    }
+
+    public static <T> Specification<T> equal(final String property, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(property), value);
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> greaterThanOrEqualTo(final String property, final Y value) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Y>get(property), value);
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> lessThan(final String property, final Y value) {
+        return (root, query, cb) -> cb.lessThan(root.<Y>get(property), value);
+    }
+
+    // LIKE 'prefix%' on the bare column (no function applied), so an index on it can serve a range scan
+    public static <T> Specification<T> startsWith(final String property, final String prefix) {
+        return (root, query, cb) -> cb.like(root.<String>get(property), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    // Matches no row, e.g. an id list without any storable id
+    public static <T> Specification<T> none() {
+        return (root, query, cb) -> cb.disjunction();
+    }
+
+    // Full text phrase search over a (first, second) FULLTEXT index, with an n-gram parser it behaves like a substring search
+    public static <T> Specification<T> matchAgainst(final String first, final String second, final String term) {
+        final var phrase = phraseOf(term);
+        return (root, query, cb) -> cb.greaterThan(
+                cb.function(FullTextFunctionsContributor.MATCH_AGAINST, Double.class, root.get(first), root.get(second), cb.literal(phrase)),
+                0d
+        );
+    }
+
+    // The words of the term as one boolean mode phrase. A term left without words once its own double quotes are dropped
+    // would render an empty phrase, which matches no row: callers check phraseWordsOf first and search it another way
+    public static String phraseOf(final String term) {
+        final var words = phraseWordsOf(term);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("No words to match in '%s'".formatted(term));
+        }
+        return "\"" + words + "\"";
+    }
+
+    // The term without its double quotes nor the blanks around it
+    public static String phraseWordsOf(final String term) {
+        return term.replace("\"", "").strip();
+    }
+
+    // Keyset predicate: rows strictly after (property, tieBreaker) = (key, id) in the given direction
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(
+            final String property,
+            final Comparable key,
+            final String tieBreaker,
+            final Comparable id,
+            final boolean ascending
+    ) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> aKey = root.get(property);
+            final Expression<Comparable> anId = root.get(tieBreaker);
+            if (ascending) {
+                return cb.or(cb.greaterThan(aKey, key), cb.and(cb.equal(aKey, key), cb.greaterThan(anId, id)));
+            }
+            return cb.or(cb.lessThan(aKey, key), cb.and(cb.equal(aKey, key), cb.lessThan(anId, id)));
+        };
+    }
+
+    private static String escapeLike(final String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     private static String like(final String term) {
         return "%" + term.toUpperCase() + "%";
     }
@@ -0,0 +1,7 @@
+-- One index per sortable field list of CategorySearchQuery, the id is the trailing tie-breaker.
+-- Every field of a list is sorted in the same direction, so a forward or backward index scan serves it.
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
+CREATE INDEX idx_category_active_name_id ON category (active, name, id);
+CREATE INDEX idx_category_active_created_at_id ON category (active, created_at, id);
@@ -0,0 +1,2 @@
+-- Equality on active plus a range on updated_at, the other typed filters are served by the V4 indexes
+CREATE INDEX idx_category_active_updated_at_id ON category (active, updated_at, id);
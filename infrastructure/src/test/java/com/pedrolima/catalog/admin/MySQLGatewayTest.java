@@ -1,9 +1,12 @@
 package com.pedrolima.catalog.admin;
 
+import com.pedrolima.catalog.admin.infrastructure.configuration.persistence.ConcurrentQueryConfig;
+import com.pedrolima.catalog.admin.infrastructure.configuration.persistence.SecondLevelCacheConfig;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.ElementType;
@@ -20,6 +23,7 @@ import java.lang.annotation.Target;
         @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".[MySQLGateway]")
 })
 @DataJpaTest
+@Import({ConcurrentQueryConfig.class, SecondLevelCacheConfig.class})
 @ExtendWith(MySQLCleanUpExtension.class)
 public @interface MySQLGatewayTest {
 
@@ -11,6 +11,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import java.util.UUID;
+
 import static org.mockito.ArgumentMatchers.any;
 
 @IntegrationTest
@@ -42,7 +44,7 @@ public class CreateCategoryUseCaseIT {
 
         Assertions.assertEquals(1, categoryRepository.count());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -91,7 +93,7 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -101,6 +103,18 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertNotNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenADescriptionLongerThanItsColumn_whenCallsCreateCategory_shouldReturnTheDatabaseErrorAsNotification() {
+        final var aCommand = CreateCategoryCommand.with("Movies", "a".repeat(4001), true);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertNotNull(notification.firstError().message());
+
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
     @Test
     public void givenAValidCommand_whenGatewayThrowsRandomException_shouldReturnException() {
         final var expectedName = "Movies";
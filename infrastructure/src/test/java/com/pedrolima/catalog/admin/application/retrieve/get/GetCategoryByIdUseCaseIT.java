@@ -12,9 +12,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 
 @IntegrationTest
@@ -78,6 +81,23 @@ public class GetCategoryByIdUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldRunInsideAReadOnlyTransaction() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        save(aCategory);
+
+        doAnswer(invocation -> {
+            Assertions.assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            Assertions.assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        }).when(categoryGateway).findById(any());
+
+        final var actualCategory = useCase.execute(aCategory.getId().getValue());
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.id());
+    }
+
     private void save(final Category... aCategory) {
         repository.saveAllAndFlush(Arrays.stream(aCategory)
                 .map(CategoryJpaEntity::from)
@@ -13,10 +13,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 
@@ -32,6 +37,9 @@ public class UpdateCategoryUseCaseIT {
     @SpyBean
     private CategoryGateway categoryGateway;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() {
         final var aCategory =
@@ -59,7 +67,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput.id());
 
         Mockito.verify(categoryGateway, times(1)).findById(expectedId);
-        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -122,7 +130,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -157,7 +165,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
         Assertions.assertEquals(aCategory.getDescription(), actualCategory.getDescription());
@@ -167,6 +175,26 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenADescriptionLongerThanItsColumn_whenCallsUpdateCategory_shouldReturnTheDatabaseErrorAndRollBack() {
+        final var aCategory = Category.newCategory("Movies", "The most watched category", true);
+
+        save(aCategory);
+
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), "Films", "a".repeat(4001), false);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertNotNull(notification.firstError().message());
+
+        final var actualCategory = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertEquals("The most watched category", actualCategory.getDescription());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
     @Test
     public void givenACommandWithInvalidID_whenCallsUpdateCategory_thenShouldReturnANotFoundException() {
         final var expectedName = "Movies";
@@ -185,6 +213,35 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_shouldFindAndUpdateInASingleTransaction() {
+        final var aCategory = Category.newCategory("Movi", null, true);
+
+        save(aCategory);
+
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), "Movies", null, true);
+
+        // The entity manager (and its connection) bound to the transaction is the same for every gateway call
+        final var actualResources = new ArrayList<Object>();
+        doAnswer(invocation -> {
+            Assertions.assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            Assertions.assertFalse(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            actualResources.add(TransactionSynchronizationManager.getResource(entityManagerFactory));
+            return invocation.callRealMethod();
+        }).when(categoryGateway).findById(any());
+
+        doAnswer(invocation -> {
+            actualResources.add(TransactionSynchronizationManager.getResource(entityManagerFactory));
+            return invocation.callRealMethod();
+        }).when(categoryGateway).update(any());
+
+        Assertions.assertTrue(useCase.execute(aCommand).isRight());
+
+        Assertions.assertEquals(2, actualResources.size());
+        Assertions.assertNotNull(actualResources.get(0));
+        Assertions.assertSame(actualResources.get(0), actualResources.get(1));
+    }
+
     private void save(final Category... aCategory) {
         categoryRepository.saveAllAndFlush(Arrays.stream(aCategory)
                 .map(CategoryJpaEntity::from)
@@ -4,21 +4,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pedrolima.catalog.admin.ControllerTest;
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.pedrolima.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.create.batch.CreateCategoriesOutput;
+import com.pedrolima.catalog.admin.application.category.create.batch.CreateCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.pedrolima.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.CategoriesByIdsOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.batch.GetCategoriesByIdsUseCase;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.pedrolima.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesOutput;
+import com.pedrolima.catalog.admin.application.category.update.bulk.BulkUpdateCategoriesUseCase;
 import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
 import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
 import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
 import com.pedrolima.catalog.admin.domain.exceptions.NotFoundException;
 import com.pedrolima.catalog.admin.domain.pagination.Pagination;
 import com.pedrolima.catalog.admin.domain.validation.Error;
 import com.pedrolima.catalog.admin.domain.validation.handler.Notification;
+import com.pedrolima.catalog.admin.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CategoryFilterRequest;
 import com.pedrolima.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.models.MultiGetCategoryRequest;
 import com.pedrolima.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.vavr.API;
 import org.hamcrest.Matchers;
@@ -28,8 +41,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -57,12 +72,18 @@ public class CategoryApiTest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @Autowired
     private ObjectMapper mapper;
 
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -72,6 +93,12 @@ public class CategoryApiTest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase;
+
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() throws Exception {
         // given
@@ -108,6 +135,81 @@ public class CategoryApiTest {
         ));
     }
 
+    @Test
+    public void givenABatchOfCommands_whenCallsCreateCategories_thenShouldReturnEachItemResult() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aInput = List.of(
+                new CreateCategoryRequest("Movies", "The most watched category", null),
+                new CreateCategoryRequest(null, null, false)
+        );
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(CreateCategoriesOutput.from(List.of(
+                        API.Right(CreateCategoryOutput.from(expectedId)),
+                        API.Left(Notification.create(new Error(expectedErrorMessage)))
+                )));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                header().string("Content-type", MediaType.APPLICATION_JSON_VALUE),
+                jsonPath("$.created", equalTo(1)),
+                jsonPath("$.failed", equalTo(1)),
+                jsonPath("$.items", hasSize(2)),
+                jsonPath("$.items[0].index", equalTo(0)),
+                jsonPath("$.items[0].id", equalTo(expectedId)),
+                jsonPath("$.items[0].errors", hasSize(0)),
+                jsonPath("$.items[1].index", equalTo(1)),
+                jsonPath("$.items[1].id", Matchers.nullValue()),
+                jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage))
+        );
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Movies", cmds.get(0).name())
+                        && cmds.get(0).isActive()
+                        && Objects.isNull(cmds.get(1).name())
+                        && !cmds.get(1).isActive()
+        ));
+    }
+
+    @Test
+    public void givenTooManyCategories_whenCallsCreateCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'categories' should have at most 1 categories";
+
+        final var aInput = List.of(
+                new CreateCategoryRequest("Movies", null, true),
+                new CreateCategoryRequest("Series", null, true)
+        );
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception {
         // given
@@ -240,6 +342,148 @@ public class CategoryApiTest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenIds_whenCallsGetCategoriesByIds_thenShouldReturnFoundAndMissing() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var missingId = CategoryID.unique().getValue();
+
+        final var expectedIds = List.of(series.getId().getValue(), missingId, movies.getId().getValue());
+
+        when(getCategoriesByIdsUseCase.execute(any())).thenReturn(CategoriesByIdsOutput.from(
+                List.of(CategoryOutput.from(series), CategoryOutput.from(movies)),
+                List.of(missingId)
+        ));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("ids", String.join(",", expectedIds))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(series.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Series")))
+                .andExpect(jsonPath("$.items[1].id", equalTo(movies.getId().getValue())))
+                .andExpect(jsonPath("$.missing", hasSize(1)))
+                .andExpect(jsonPath("$.missing[0]", equalTo(missingId)));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(expectedIds);
+    }
+
+    @Test
+    public void givenIdsInTheBody_whenCallsMultiGet_thenShouldReturnFoundAndMissing() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var missingId = CategoryID.unique().getValue();
+
+        final var expectedIds = List.of(movies.getId().getValue(), missingId);
+        final var anInput = new MultiGetCategoryRequest(expectedIds);
+
+        when(getCategoriesByIdsUseCase.execute(any())).thenReturn(CategoriesByIdsOutput.from(
+                List.of(CategoryOutput.from(movies)),
+                List.of(missingId)
+        ));
+
+        // when
+        final var request = post("/categories/_multi-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(movies.getId().getValue())))
+                .andExpect(jsonPath("$.missing[0]", equalTo(missingId)));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(expectedIds);
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsMultiGet_thenShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids' should have at most 1 ids";
+        final var anInput = new MultiGetCategoryRequest(List.of("123", "456"));
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = post("/categories/_multi-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggest_thenShouldReturnIdsAndNames() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var moviesArchive = Category.newCategory("Movies archive", null, true);
+
+        when(suggestCategoriesUseCase.execute(any())).thenReturn(List.of(
+                CategorySuggestionOutput.from(CategorySummary.from(movies)),
+                CategorySuggestionOutput.from(CategorySummary.from(moviesArchive))
+        ));
+
+        // when
+        final var request = get("/categories/suggest")
+                .queryParam("prefix", "mov")
+                .queryParam("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(movies.getId().getValue())))
+                .andExpect(jsonPath("$[0].name", equalTo("Movies")))
+                .andExpect(jsonPath("$[1].name", equalTo("Movies archive")))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(suggestCategoriesUseCase, times(1)).execute(argThat(aCommand ->
+                Objects.equals("mov", aCommand.prefix()) && aCommand.limit() == 5
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidLimit_whenCallsSuggest_thenShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'limit' should be between 1 and 50";
+
+        when(suggestCategoriesUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = get("/categories/suggest")
+                .queryParam("prefix", "mov")
+                .queryParam("limit", "100")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_thenShouldReturnCategoryId() throws Exception {
         // given
@@ -407,12 +651,14 @@ public class CategoryApiTest {
                 .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
                 .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
                 .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+                .andExpect(jsonPath("$.has_next", equalTo(false)))
                 .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)))
                 .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
                 .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
                 .andExpect(jsonPath("$.items[0].description", equalTo(aCategory.getDescription())))
                 .andExpect(jsonPath("$.items[0].is_active", equalTo(aCategory.isActive())))
                 .andExpect(jsonPath("$.items[0].created_at", equalTo(aCategory.getCreatedAt().toString())))
+                .andExpect(jsonPath("$.items[0].updated_at", equalTo(aCategory.getUpdatedAt().toString())))
                 .andExpect(jsonPath("$.items[0].deleted_at", equalTo(aCategory.getDeletedAt())))
         ;
 
@@ -422,6 +668,191 @@ public class CategoryApiTest {
                         && Objects.equals(expectedSort, query.sort())
                         && Objects.equals(expectedDirection, query.direction())
                         && Objects.equals(expectedTerms, query.terms())
+                        && query.withTotal()
+        ));
+    }
+
+    @Test
+    public void givenFields_whenCallsListCategories_shouldReturnOnlyRequestedFields() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("movies", "The most watched", true);
+        final var expectedFields = Set.of("name", "active", "updatedAt");
+
+        final var expectedItems = List.of(new CategoryListOutput(
+                aCategory.getId(),
+                aCategory.getName(),
+                null,
+                aCategory.isActive(),
+                null,
+                aCategory.getUpdatedAt(),
+                null
+        ));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+        // when
+        final var request = get("/categories")
+                .queryParam("fields", "name, active, updatedAt")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
+                .andExpect(jsonPath("$.items[0].is_active", equalTo(aCategory.isActive())))
+                .andExpect(jsonPath("$.items[0].updated_at", equalTo(aCategory.getUpdatedAt().toString())))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].created_at").doesNotExist())
+                .andExpect(jsonPath("$.items[0].deleted_at").doesNotExist())
+        ;
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedFields, query.fields())
+        ));
+    }
+
+    @Test
+    public void givenTypedFilters_whenCallsListCategories_shouldPassThemToTheQuery() throws Exception {
+        // given
+        final var expectedActive = true;
+        final var expectedCreatedFrom = Instant.parse("2022-05-01T00:00:00Z");
+        final var expectedCreatedTo = Instant.parse("2022-05-08T00:00:00Z");
+        final var expectedName = "Movies";
+        final var expectedNamePrefix = "Mov";
+        final var expectedIds = List.of(CategoryID.from("123"), CategoryID.from("456"));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        // when
+        final var request = get("/categories")
+                .queryParam("active", String.valueOf(expectedActive))
+                .queryParam("createdFrom", expectedCreatedFrom.toString())
+                .queryParam("createdTo", expectedCreatedTo.toString())
+                .queryParam("name", expectedName)
+                .queryParam("namePrefix", expectedNamePrefix)
+                .queryParam("id", "123,456")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedActive, query.filter().active())
+                        && Objects.equals(expectedCreatedFrom, query.filter().createdFrom())
+                        && Objects.equals(expectedCreatedTo, query.filter().createdTo())
+                        && Objects.isNull(query.filter().updatedFrom())
+                        && Objects.isNull(query.filter().updatedTo())
+                        && Objects.equals(expectedName, query.filter().name())
+                        && Objects.equals(expectedNamePrefix, query.filter().namePrefix())
+                        && Objects.equals(expectedIds, query.filter().ids())
+        ));
+    }
+
+    @Test
+    public void givenAValidBulkUpdate_whenCallsBulkUpdate_thenShouldReturnAffectedCount() throws Exception {
+        // given
+        final var expectedAction = "DEACTIVATE";
+        final var expectedIds = List.of("123", "456");
+        final var expectedAffected = 2L;
+
+        final var aInput = new BulkUpdateCategoryRequest(expectedAction, null, null, expectedIds);
+
+        when(bulkUpdateCategoriesUseCase.execute(any()))
+                .thenReturn(API.Right(BulkUpdateCategoriesOutput.from(CategoryBulkAction.DEACTIVATE, expectedAffected)));
+
+        // when
+        final var request = post("/categories/_bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                header().string("Content-type", MediaType.APPLICATION_JSON_VALUE),
+                jsonPath("$.action", equalTo(expectedAction)),
+                jsonPath("$.affected", equalTo(2))
+        );
+
+        verify(bulkUpdateCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedAction, cmd.action())
+                        && Objects.isNull(cmd.terms())
+                        && Objects.equals(expectedIds, cmd.ids())
+        ));
+    }
+
+    @Test
+    public void givenABulkUpdateByFilter_whenCallsBulkUpdate_thenShouldPassTheFilterToTheCommand() throws Exception {
+        // given
+        final var expectedCreatedTo = Instant.parse("2024-01-01T00:00:00Z");
+
+        final var aInput = new BulkUpdateCategoryRequest(
+                "DEACTIVATE",
+                null,
+                new CategoryFilterRequest(true, null, expectedCreatedTo, null, null, null, null),
+                null
+        );
+
+        when(bulkUpdateCategoriesUseCase.execute(any()))
+                .thenReturn(API.Right(BulkUpdateCategoriesOutput.from(CategoryBulkAction.DEACTIVATE, 3L)));
+
+        // when
+        final var request = post("/categories/_bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpectAll(
+                status().isOk(),
+                jsonPath("$.affected", equalTo(3))
+        );
+
+        verify(bulkUpdateCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                Boolean.TRUE.equals(cmd.filter().active())
+                        && Objects.equals(expectedCreatedTo, cmd.filter().createdTo())
+                        && Objects.isNull(cmd.ids())
         ));
     }
+
+    @Test
+    public void givenAnInvalidBulkUpdate_whenCallsBulkUpdate_thenShouldReturnNotification() throws Exception {
+        // given
+        final var expectedErrorMessage = "either 'ids' or 'search'/'filter' should be informed, not both";
+
+        final var aInput = new BulkUpdateCategoryRequest("DELETE", null, null, null);
+
+        when(bulkUpdateCategoriesUseCase.execute(any()))
+                .thenReturn(API.Left(Notification.create(new Error(expectedErrorMessage))));
+
+        // when
+        final var request = post("/categories/_bulk-update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        final var response = mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpectAll(
+                status().isUnprocessableEntity(),
+                header().string("Content-type", MediaType.APPLICATION_JSON_VALUE),
+                jsonPath("$.errors", hasSize(1)),
+                jsonPath("$.errors[0].message", equalTo(expectedErrorMessage))
+        );
+    }
 }
@@ -0,0 +1,200 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private CachedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new CachedCategoryGateway(delegate, 100, Duration.ofMinutes(10), Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_shouldNotReachTheDelegate() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstCategory = categoryGateway.findById(expectedId).get();
+        final var secondCategory = categoryGateway.findById(expectedId).get();
+
+        Assertions.assertEquals(expectedId, secondCategory.getId());
+        Assertions.assertEquals(aCategory.getName(), secondCategory.getName());
+        Assertions.assertNotSame(firstCategory, secondCategory);
+        Assertions.assertEquals(1, categoryGateway.stats().hitCount());
+        Assertions.assertEquals(1, categoryGateway.stats().missCount());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    // The cache sits in front of the read transaction (see ReadTransactionCategoryGateway), a hit takes no connection
+    @Test
+    public void givenACachedCategoryOverAReadTransaction_whenCallsFindByIdAgain_shouldNotBeginATransaction() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        categoryGateway = new CachedCategoryGateway(
+                new ReadTransactionCategoryGateway(delegate, transactionManager),
+                100,
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(10)
+        );
+
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        categoryGateway.findById(aCategory.getId());
+        categoryGateway.findById(aCategory.getId());
+        categoryGateway.findAllByIds(List.of(aCategory.getId()));
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(delegate, times(1)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenAMutatedCopy_whenCallsFindByIdAgain_shouldReturnTheCachedState() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        categoryGateway.findById(aCategory.getId()).get().update("Series", null, false);
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindByIdAgain_shouldCacheTheMiss() {
+        final var expectedId = CategoryID.unique();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(categoryGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(categoryGateway.findById(expectedId).isEmpty());
+
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenSomeCachedIds_whenCallsFindAllByIds_shouldLoadOnlyTheOthers() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var missingId = CategoryID.unique();
+
+        when(delegate.findById(movies.getId())).thenReturn(Optional.of(movies));
+        when(delegate.findAllByIds(any())).thenReturn(List.of(series));
+
+        categoryGateway.findById(movies.getId());
+
+        final var actualCategories = categoryGateway.findAllByIds(List.of(series.getId(), missingId, movies.getId()));
+
+        Assertions.assertEquals(
+                List.of(series.getId(), movies.getId()),
+                actualCategories.stream().map(Category::getId).toList()
+        );
+        Assertions.assertEquals(3, categoryGateway.cache().estimatedSize());
+        verify(delegate, times(1)).findAllByIds(argThat(ids -> Set.copyOf(ids).equals(Set.of(series.getId(), missingId))));
+
+        categoryGateway.findAllByIds(List.of(missingId, series.getId()));
+        verify(delegate, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenAnEvictionDuringABulkLoad_whenCallsFindAllByIds_shouldNotCacheTheLoadedRows() {
+        final var movies = Category.newCategory("Movies", null, true);
+
+        // A write of another request commits while the rows are read
+        when(delegate.findAllByIds(any())).thenAnswer(invocation -> {
+            categoryGateway.deleteById(movies.getId());
+            return List.of(movies);
+        });
+
+        final var actualCategories = categoryGateway.findAllByIds(List.of(movies.getId()));
+
+        Assertions.assertEquals(List.of(movies.getId()), actualCategories.stream().map(Category::getId).toList());
+        Assertions.assertNull(categoryGateway.cache().getIfPresent(movies.getId()));
+
+        categoryGateway.findAllByIds(List.of(movies.getId()));
+        verify(delegate, times(2)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldEvictIt() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(call -> call.getArgument(0));
+
+        categoryGateway.findById(aCategory.getId());
+        categoryGateway.update(Category.with(aCategory).update("Series", null, true));
+        categoryGateway.findById(aCategory.getId());
+
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    @Test
+    public void givenACachedMiss_whenCallsCreate_shouldEvictIt() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.findById(aCategory.getId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(aCategory));
+        when(delegate.create(any())).thenAnswer(call -> call.getArgument(0));
+
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).isEmpty());
+        categoryGateway.create(aCategory);
+
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).isPresent());
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallsDeleteOrBulkUpdate_shouldEvictThem() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        when(delegate.findById(movies.getId())).thenReturn(Optional.of(movies));
+        when(delegate.findById(series.getId())).thenReturn(Optional.of(series));
+
+        categoryGateway.findById(movies.getId());
+        categoryGateway.findById(series.getId());
+
+        categoryGateway.deleteById(movies.getId());
+        Assertions.assertEquals(1, categoryGateway.cache().estimatedSize());
+
+        categoryGateway.bulkUpdate(CategoryBulkAction.DEACTIVATE, new CategorySearchQuery(0, 0, "ser", "name", "asc"));
+        Assertions.assertEquals(0, categoryGateway.cache().estimatedSize());
+
+        categoryGateway.findById(series.getId());
+        categoryGateway.bulkUpdate(CategoryBulkAction.ACTIVATE, List.of(series.getId()));
+        Assertions.assertEquals(0, categoryGateway.cache().estimatedSize());
+    }
+}
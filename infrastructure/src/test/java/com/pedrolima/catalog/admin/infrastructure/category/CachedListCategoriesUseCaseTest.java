@@ -0,0 +1,76 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedListCategoriesUseCaseTest {
+
+    @Mock
+    private ListCategoriesUseCase delegate;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CategoryWriteGeneration generation;
+
+    private CachedListCategoriesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        generation = new CategoryWriteGeneration();
+        useCase = new CachedListCategoriesUseCase(delegate, generation, 100, Duration.ofMinutes(1), Duration.ZERO);
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsListCategories_shouldLoadThePageOnce() {
+        final var expectedPage = pageOf(Category.newCategory("Movies", null, true));
+
+        when(delegate.execute(any())).thenReturn(expectedPage);
+
+        final var firstResult = useCase.execute(new CategorySearchQuery(0, 10, " Mov ", "name", "ASC"));
+        final var secondResult = useCase.execute(new CategorySearchQuery(0, 10, "mov", "name", "asc"));
+
+        Assertions.assertSame(expectedPage, firstResult);
+        Assertions.assertSame(expectedPage, secondResult);
+        verify(delegate, times(1)).execute(new CategorySearchQuery(0, 10, "mov", "name", "asc"));
+    }
+
+    @Test
+    public void givenACachedPage_whenAWriteHappens_shouldLoadThePageAgain() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(delegate.execute(any())).thenReturn(pageOf(aCategory));
+        when(categoryGateway.create(any())).thenAnswer(call -> call.getArgument(0));
+
+        useCase.execute(aQuery);
+        new WriteTrackingCategoryGateway(categoryGateway, generation).create(Category.newCategory("Series", null, true));
+        useCase.execute(aQuery);
+
+        verify(delegate, times(2)).execute(any());
+    }
+
+    private static Pagination<CategoryListOutput> pageOf(final Category... categories) {
+        final var items = List.of(categories).stream().map(CategoryListOutput::from).toList();
+        return new Pagination<>(0, 10, items.size(), items);
+    }
+}
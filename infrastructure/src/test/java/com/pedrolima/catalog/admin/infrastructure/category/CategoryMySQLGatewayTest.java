@@ -2,15 +2,32 @@ package com.pedrolima.catalog.admin.infrastructure.category;
 
 import com.pedrolima.catalog.admin.MySQLGatewayTest;
 import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
 import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
 import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.exceptions.NotFoundException;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
 import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
@@ -21,6 +38,12 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     public void givenAValidCategory_whenCallCreate_shouldReturnANewCategory() {
         final var expectedName = "Movies";
@@ -31,8 +54,11 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertEquals(0, categoryRepository.count());
 
+        statistics().clear();
         final var actualCategory = categoryGateway.create(aCategory);
+        entityManager.flush();
 
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
         Assertions.assertEquals(1, categoryRepository.count());
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -43,7 +69,7 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
@@ -54,6 +80,29 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenValidCategories_whenCallCreateAll_shouldPersistAllOfThem() {
+        final var movies = Category.newCategory("Movies", "The most watched Category", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryGateway.createAll(List.of(movies, series));
+
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals(2, actualCategories.size());
+        Assertions.assertEquals(movies.getId(), actualCategories.get(0).getId());
+        Assertions.assertEquals(series.getId(), actualCategories.get(1).getId());
+
+        final var actualEntity = categoryRepository.findById(UUID.fromString(series.getId().getValue())).get();
+
+        Assertions.assertEquals(series.getName(), actualEntity.getName());
+        Assertions.assertNull(actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertEquals(series.getCreatedAt(), actualEntity.getCreatedAt());
+        Assertions.assertEquals(series.getDeletedAt(), actualEntity.getDeletedAt());
+    }
+
     @Test
     public void givenAValidCategory_whenCallUpdate_shouldReturnUpdatedCategory() {
         final var expectedName = "Movies";
@@ -72,8 +121,11 @@ public class CategoryMySQLGatewayTest {
 
         final var aUpdatedCategory = aCategory.clone().update(expectedName, expectedDescription, isActive);
 
+        statistics().clear();
         final var actualCategory = categoryGateway.update(aUpdatedCategory);
 
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
+
         Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -83,7 +135,7 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
@@ -104,8 +156,10 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertEquals(1, categoryRepository.count());
 
+        statistics().clear();
         categoryGateway.deleteById(aCategory.getId());
 
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
@@ -113,8 +167,70 @@ public class CategoryMySQLGatewayTest {
     public void givenAInvalidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         Assertions.assertEquals(0, categoryRepository.count());
 
+        statistics().clear();
         categoryGateway.deleteById(CategoryID.from("invalid"));
 
+        Assertions.assertEquals(0, statistics().getPrepareStatementCount());
+
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    // Neither in the persistence context nor in the second-level cache: the row is not read before it is written
+    @Test
+    public void givenACategoryNotLoaded_whenCallUpdate_shouldIssueASingleUpdate() {
+        final var aCategory = Category.newCategory("Movi", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        evictAll();
+
+        statistics().clear();
+        categoryGateway.update(aCategory.clone().update("Movies", "The most watched Category", false));
+
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics().getSecondLevelCacheHitCount());
+
+        evictAll();
+        final var actualEntity = categoryRepository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+
+        Assertions.assertEquals("Movies", actualEntity.getName());
+        Assertions.assertEquals("The most watched Category", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualEntity.getCreatedAt());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenACategoryNotLoaded_whenTryToDeleteIt_shouldIssueASingleDelete() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        evictAll();
+
+        statistics().clear();
+        categoryGateway.deleteById(aCategory.getId());
+
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics().getSecondLevelCacheHitCount());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenANotStoredCategoryId_whenTryToDeleteIt_shouldDoNothing() {
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Movies", null, true)));
+
+        Assertions.assertDoesNotThrow(() -> categoryGateway.deleteById(CategoryID.unique()));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenANotStoredCategory_whenCallUpdate_shouldThrowNotFound() {
+        final var expectedErrorMessage = "Category with ID %s was not found";
+
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var actualException =
+                Assertions.assertThrows(NotFoundException.class, () -> categoryGateway.update(aCategory));
+
+        Assertions.assertEquals(expectedErrorMessage.formatted(aCategory.getId().getValue()), actualException.getMessage());
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
@@ -148,11 +264,95 @@ public class CategoryMySQLGatewayTest {
     public void givenAPrePersistedCategoryNotStored_whenCallFindById_shouldReturnEmpty() {
         Assertions.assertEquals(0, categoryRepository.count());
 
-        final var categoryOp = categoryRepository.findById(CategoryID.unique().getValue());
+        final var categoryOp = categoryRepository.findById(UUID.fromString(CategoryID.unique().getValue()));
 
         Assertions.assertTrue(categoryOp.isEmpty());
     }
 
+    // Outside the test transaction: second-level cache entries are only readable by transactions started after theirs
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenACreatedCategory_whenCallFindById_shouldServeItFromTheSecondLevelCache() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        categoryGateway.create(aCategory);
+
+        statistics().clear();
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals(0, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics().getSecondLevelCacheHitCount());
+        Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenACachedCategory_whenCallUpdate_shouldEvictTheCachedEntry() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        categoryGateway.create(aCategory);
+        categoryGateway.update(Category.with(aCategory).update("Series", "Watched weekly", false));
+
+        statistics().clear();
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics().getSecondLevelCacheHitCount());
+        Assertions.assertEquals("Series", actualCategory.getName());
+        Assertions.assertEquals("Watched weekly", actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+
+        statistics().clear();
+        categoryGateway.findById(aCategory.getId());
+
+        Assertions.assertEquals(0, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics().getSecondLevelCacheHitCount());
+    }
+
+    // A missing row is only a count of 0, the transaction that tried the update can still commit
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenANotStoredCategory_whenCallUpdateInATransaction_shouldStillCommitIt() {
+        final var movies = Category.newCategory("Movies", null, true);
+
+        Assertions.assertDoesNotThrow(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Assertions.assertThrows(NotFoundException.class, () -> categoryGateway.update(movies));
+            categoryGateway.create(Category.newCategory("Series", null, true));
+        }));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallFindAllByIds_shouldReturnFoundOnesInRequestOrder() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+        entityManager.clear();
+
+        statistics().clear();
+        final var actualCategories = categoryGateway.findAllByIds(List.of(
+                documentaries.getId(),
+                CategoryID.unique(),
+                CategoryID.from("123"),
+                movies.getId(),
+                documentaries.getId()
+        ));
+
+        Assertions.assertEquals(1, statistics().getPrepareStatementCount());
+        Assertions.assertEquals(
+                List.of(documentaries.getId(), movies.getId()),
+                actualCategories.stream().map(Category::getId).toList()
+        );
+        Assertions.assertEquals("Documentaries", actualCategories.get(0).getName());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallFindAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -302,7 +502,7 @@ public class CategoryMySQLGatewayTest {
 
         Assertions.assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "MOST WATCHED", "description", "asc");
+        final var query = new CategorySearchQuery(0, 1, "MOST WATCHED", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         Assertions.assertEquals(expectedPage, actualResult.currentPage());
@@ -311,4 +511,418 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void givenFollowCursor_whenCallFindAllWithAfter_shouldSeekNextPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Second page
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Last page
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallFindAllWithAfter_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' is not a valid cursor for this search";
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var aCursor = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        final var query = new CategorySearchQuery(0, 1, "", "createdAt", "asc", aCursor);
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenANotIndexedSort_whenCallFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage =
+                "'sort' should be one of 'name', 'createdAt', 'updatedAt', 'active,name', 'active,createdAt'";
+
+        final var query = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAMultiFieldSort_whenCallFindAll_shouldSortByEachField() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+        final var anotherMovies = Category.newCategory("Movies", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(anotherMovies)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "", "active, name", "desc");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(
+                List.of("Movies", "Movies", "Documentaries", "Series"),
+                actualResult.items().stream().map(Category::getName).toList()
+        );
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenTypedFilters_whenCallFindAll_shouldReturnOnlyMatchingCategories() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var moviesClassics = Category.newCategory("Movies Classics", null, false);
+        final var musicals = Category.newCategory("Musicals", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(moviesClassics),
+                CategoryJpaEntity.from(musicals),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var activeByPrefix = new CategorySearchFilter(true, null, null, null, null, null, "M", null);
+        var actualResult = categoryGateway.findAll(queryWith(activeByPrefix));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(musicals.getId(), actualResult.items().get(1).getId());
+
+        final var lastWeek = Instant.now().minus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        final var oldOne = Category.with(CategoryID.unique(), "Old", null, true, lastWeek, lastWeek, null);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(oldOne));
+
+        final var createdRange = new CategorySearchFilter(null, lastWeek, lastWeek.plusSeconds(1), null, null, null, null, null);
+        actualResult = categoryGateway.findAll(queryWith(createdRange));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(oldOne.getId(), actualResult.items().get(0).getId());
+
+        final var byIds = new CategorySearchFilter(null, null, null, null, null, null, null, List.of(series.getId(), CategoryID.from("123")));
+        actualResult = categoryGateway.findAll(queryWith(byIds));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+
+        final var noStorableIds = new CategorySearchFilter(null, null, null, null, null, null, null, List.of(CategoryID.from("123")));
+        actualResult = categoryGateway.findAll(queryWith(noStorableIds));
+
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    public void givenANameWithOtherCaseAndAccents_whenCallFindAll_shouldMatchTheNormalizedName() {
+        final var action = Category.newCategory("A\u00e7\u00e3o", null, true);
+        final var adventure = Category.newCategory("Aventura", null, true);
+
+        categoryGateway.create(action);
+        categoryGateway.create(adventure);
+
+        Assertions.assertEquals("acao", categoryRepository.findById(CategoryJpaEntity.idOf(action.getId())).get().getNameSearch());
+
+        var actualResult = categoryGateway.findAll(queryWith(
+                new CategorySearchFilter(null, null, null, null, null, "ACAO", null, null)
+        ));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(action.getId(), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(queryWith(
+                new CategorySearchFilter(null, null, null, null, null, null, "\u00c1V", null)
+        ));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(adventure.getId(), actualResult.items().get(0).getId());
+
+        // An update rewrites the normalized name along with the name
+        categoryGateway.update(Category.with(action).update("Com\u00e9dia", null, true));
+
+        Assertions.assertEquals("comedia", categoryRepository.findById(CategoryJpaEntity.idOf(action.getId())).get().getNameSearch());
+    }
+
+    @Test
+    public void givenANamePrefixWithWildcards_whenCallFindAll_shouldMatchThemLiterally() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("100% Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("1000 Movies", null, true))
+        ));
+
+        final var aFilter = new CategorySearchFilter(null, null, null, null, null, null, "100%", null);
+        final var actualResult = categoryGateway.findAll(queryWith(aFilter));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("100% Movies", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAPrefix_whenCallFindSuggestions_shouldReturnActiveCategoriesStartingWithItInNameOrder() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies archive", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Movies old", null, false)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var actualSuggestions = categoryGateway.findSuggestions("M\u00d3V", 10);
+
+        Assertions.assertEquals(List.of("Movies", "Movies archive"), actualSuggestions.stream().map(CategorySummary::name).toList());
+        Assertions.assertNull(actualSuggestions.get(0).description());
+        Assertions.assertEquals(1, categoryGateway.findSuggestions("mov", 1).size());
+    }
+
+    @Test
+    public void givenWithTotalDisabled_whenCallFindAll_shouldReturnHasNextWithoutCounting() {
+        final var expectedPerPage = 2;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        var query = new CategorySearchQuery(0, 2, "", "name", "asc", null, false);
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(1).getId());
+
+        query = new CategorySearchQuery(1, 2, "", "name", "asc", null, false);
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.currentPage());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertNull(actualResult.nextCursor());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenTermsAndWithTotalDisabled_whenCallFindAll_shouldReturnUnknownTotal() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true))
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "doc", "name", "asc", null, false);
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenFields_whenCallFindAllSummaries_shouldLoadOnlyRequestedFields() {
+        final var movies = Category.newCategory("Movies", "The most watched", true);
+        final var series = Category.newCategory("Series", "Episodes", true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, false, Set.of("name"));
+        final var actualResult = categoryGateway.findAllSummaries(query);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        final var actualSummary = actualResult.items().get(0);
+        Assertions.assertEquals(movies.getId(), actualSummary.id());
+        Assertions.assertEquals(movies.getName(), actualSummary.name());
+        Assertions.assertNull(actualSummary.description());
+        Assertions.assertNull(actualSummary.active());
+        Assertions.assertNull(actualSummary.createdAt());
+
+        // The cursor of a sparse listing is the same one of a full listing
+        final var nextQuery = new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), false, Set.of("description"));
+        final var nextResult = categoryGateway.findAllSummaries(nextQuery);
+
+        Assertions.assertEquals(series.getId(), nextResult.items().get(0).id());
+        Assertions.assertEquals(series.getDescription(), nextResult.items().get(0).description());
+        Assertions.assertFalse(nextResult.hasNext());
+    }
+
+    @Test
+    public void givenAnUnknownField_whenCallFindAllSummaries_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'fields' has an unknown field 'password'";
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc", null, true, Set.of("name", "password"));
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAllSummaries(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenSearchTerms_whenCallBulkUpdateDeactivate_shouldDeactivateOnlyMatchingActiveCategories() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+        final var oldDocumentaries = Category.newCategory("Old documentaries", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(oldDocumentaries)
+        ));
+
+        final var aFilter = new CategorySearchQuery(0, 0, "doc", "name", "asc");
+        final var actualAffected = categoryGateway.bulkUpdate(CategoryBulkAction.DEACTIVATE, aFilter);
+
+        Assertions.assertEquals(1, actualAffected);
+
+        final var actualDocumentaries = categoryGateway.findById(documentaries.getId()).get();
+        Assertions.assertFalse(actualDocumentaries.isActive());
+        Assertions.assertNotNull(actualDocumentaries.getDeletedAt());
+
+        final var actualOldDocumentaries = categoryGateway.findById(oldDocumentaries.getId()).get();
+        Assertions.assertEquals(oldDocumentaries.getDeletedAt(), actualOldDocumentaries.getDeletedAt());
+        Assertions.assertEquals(oldDocumentaries.getUpdatedAt(), actualOldDocumentaries.getUpdatedAt());
+
+        Assertions.assertTrue(categoryGateway.findById(movies.getId()).get().isActive());
+    }
+
+    @Test
+    public void givenATypedFilter_whenCallBulkUpdateDeactivate_shouldDeactivateOnlyActiveOnesCreatedInTheRange() {
+        final var lastWeek = Instant.now().minus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        final var oldMovies = Category.with(CategoryID.unique(), "Old movies", null, true, lastWeek, lastWeek, null);
+        final var oldSeries = Category.with(CategoryID.unique(), "Old series", null, false, lastWeek, lastWeek, lastWeek);
+        final var movies = Category.newCategory("Movies", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(oldMovies),
+                CategoryJpaEntity.from(oldSeries),
+                CategoryJpaEntity.from(movies)
+        ));
+
+        final var aFilter = new CategorySearchFilter(true, null, lastWeek.plusSeconds(1), null, null, null, null, null);
+        final var actualAffected = categoryGateway.bulkUpdate(
+                CategoryBulkAction.DEACTIVATE,
+                new CategorySearchQuery(0, 0, "", "name", "asc", null, false, Set.of(), aFilter)
+        );
+
+        Assertions.assertEquals(1, actualAffected);
+        Assertions.assertFalse(categoryGateway.findById(oldMovies.getId()).get().isActive());
+        Assertions.assertEquals(lastWeek, categoryGateway.findById(oldSeries.getId()).get().getUpdatedAt());
+        Assertions.assertTrue(categoryGateway.findById(movies.getId()).get().isActive());
+    }
+
+    @Test
+    public void givenIds_whenCallBulkUpdateActivate_shouldActivateThem() {
+        final var movies = Category.newCategory("Movies", null, false);
+        final var series = Category.newCategory("Series", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var actualAffected = categoryGateway.bulkUpdate(
+                CategoryBulkAction.ACTIVATE,
+                List.of(movies.getId(), CategoryID.from("invalid"))
+        );
+
+        Assertions.assertEquals(1, actualAffected);
+
+        final var actualMovies = categoryGateway.findById(movies.getId()).get();
+        Assertions.assertTrue(actualMovies.isActive());
+        Assertions.assertNull(actualMovies.getDeletedAt());
+
+        Assertions.assertFalse(categoryGateway.findById(series.getId()).get().isActive());
+    }
+
+    @Test
+    public void givenIds_whenCallBulkUpdateDelete_shouldDeleteThem() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var kids = Category.newCategory("Kids", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(kids)
+        ));
+
+        final var actualAffected = categoryGateway.bulkUpdate(
+                CategoryBulkAction.DELETE,
+                List.of(movies.getId(), series.getId(), CategoryID.unique())
+        );
+
+        Assertions.assertEquals(2, actualAffected);
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryGateway.findById(kids.getId()).isPresent());
+    }
+
+    @Test
+    public void givenOnlyInvalidIds_whenCallBulkUpdate_shouldAffectNothing() {
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Movies", null, true)));
+
+        final var actualAffected = categoryGateway.bulkUpdate(CategoryBulkAction.DELETE, List.of(CategoryID.from("123")));
+
+        Assertions.assertEquals(0, actualAffected);
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    private void evictAll() {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static CategorySearchQuery queryWith(final CategorySearchFilter aFilter) {
+        return new CategorySearchQuery(0, 10, "", "name", "asc", null, true, null, aFilter);
+    }
 }
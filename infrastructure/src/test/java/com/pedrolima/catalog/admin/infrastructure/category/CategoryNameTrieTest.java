@@ -0,0 +1,79 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CategoryNameTrieTest {
+
+    @Test
+    public void givenActiveCategories_whenCallsSuggest_shouldReturnNamesStartingWithThePrefixAccentInsensitively() {
+        final var trie = CategoryNameTrie.of(List.of(
+                Category.newCategory("A\u00e7\u00e3o", null, true),
+                Category.newCategory("Acampamento", null, true),
+                Category.newCategory("Anima\u00e7\u00e3o", null, true),
+                Category.newCategory("Aconchego", null, false)
+        ));
+
+        Assertions.assertEquals(List.of("Acampamento", "A\u00e7\u00e3o"), namesOf(trie.suggest("  ACA", 10)));
+        Assertions.assertEquals(List.of("A\u00e7\u00e3o"), namesOf(trie.suggest("A\u00c7\u00c3O", 10)));
+        Assertions.assertEquals(List.of("Acampamento"), namesOf(trie.suggest("acam", 10)));
+        Assertions.assertTrue(trie.suggest("aconc", 10).isEmpty());
+        Assertions.assertTrue(trie.suggest("terror", 10).isEmpty());
+        Assertions.assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void givenManyMatches_whenCallsSuggest_shouldReturnTheFirstOnesInNameOrderUpToTheLimit() {
+        final var trie = CategoryNameTrie.of(List.of(
+                Category.newCategory("Movies archive", null, true),
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Movie nights", null, true),
+                Category.newCategory("Music", null, true)
+        ));
+
+        Assertions.assertEquals(List.of("Movie nights", "Movies", "Movies archive", "Music"), namesOf(trie.suggest("", 10)));
+        Assertions.assertEquals(List.of("Movie nights", "Movies"), namesOf(trie.suggest("mov", 2)));
+        Assertions.assertEquals(List.of("Movies", "Movies archive"), namesOf(trie.suggest("movies", 10)));
+    }
+
+    @Test
+    public void givenSameNames_whenCallsSuggest_shouldReturnEveryOneWithItsId() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var otherMovies = Category.newCategory("movies", null, true);
+        final var trie = CategoryNameTrie.of(List.of(movies, otherMovies));
+
+        final var actualIds = trie.suggest("movies", 10).stream().map(CategorySummary::id).toList();
+
+        Assertions.assertEquals(2, actualIds.size());
+        Assertions.assertTrue(actualIds.containsAll(List.of(movies.getId(), otherMovies.getId())));
+        Assertions.assertNull(trie.suggest("movies", 10).get(0).description());
+    }
+
+    @Test
+    public void givenRenamedDeactivatedAndDeletedCategories_whenCallsApply_shouldSuggestTheCurrentNamesOnly() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var shows = Category.newCategory("Shows", null, true);
+        final var trie = CategoryNameTrie.of(List.of(movies, series, shows));
+
+        final var films = Category.with(movies).update("Films", null, true);
+        final var inactiveSeries = Category.with(series).update("Series", null, false);
+        trie.apply(List.of(films, inactiveSeries), List.of(shows.getId(), CategoryID.from("123")));
+
+        Assertions.assertEquals(List.of("Films"), namesOf(trie.suggest("", 10)));
+        Assertions.assertTrue(trie.suggest("mov", 10).isEmpty());
+        Assertions.assertEquals(1, trie.size());
+
+        trie.apply(List.of(Category.with(inactiveSeries).update("Series", null, true)), List.of());
+        Assertions.assertEquals(List.of("Films", "Series"), namesOf(trie.suggest("", 10)));
+    }
+
+    private static List<String> namesOf(final List<CategorySummary> suggestions) {
+        return suggestions.stream().map(CategorySummary::name).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class CategorySearchIndexTest {
+
+    private static final Instant NOW = Instant.parse("2022-05-01T10:00:00.123456Z");
+
+    @TempDir
+    Path directory;
+
+    private CategorySearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = CategorySearchIndex.open(directory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    public void givenIndexedCategories_whenCallsSearchWithPartialWords_shouldRankNameMatchesFirst() throws IOException {
+        final var documentaries = categoryWith("Documentaries", "Real stories", true);
+        final var movies = categoryWith("Movies", "Documentary style movies", true);
+        final var series = categoryWith("Series", null, true);
+        index.upsert(List.of(movies, series, documentaries));
+        index.refresh();
+
+        final var actualPage = index.search(relevanceQuery(0, 10, "DOCU"));
+
+        Assertions.assertEquals(List.of("Documentaries", "Movies"), namesOf(actualPage));
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertFalse(actualPage.hasNext());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenTermsWithAccents_whenCallsSearch_shouldMatchEveryTermAccentInsensitively() throws IOException {
+        index.upsert(List.of(
+                categoryWith("A\u00e7\u00e3o", "Filmes de a\u00e7\u00e3o", true),
+                categoryWith("Com\u00e9dia", "Filmes de com\u00e9dia", true)
+        ));
+        index.refresh();
+
+        Assertions.assertEquals(List.of("A\u00e7\u00e3o"), namesOf(index.search(relevanceQuery(0, 10, "acao"))));
+        Assertions.assertEquals(List.of("Com\u00e9dia"), namesOf(index.search(relevanceQuery(0, 10, "filmes com\u00e9"))));
+        Assertions.assertTrue(index.search(relevanceQuery(0, 10, "filmes terror")).items().isEmpty());
+    }
+
+    @Test
+    public void givenFiltersAndPages_whenCallsSearch_shouldFilterAndPageLikeTheDatabase() throws IOException {
+        final var movies = categoryWith("Movies", null, true);
+        final var moviesArchive = categoryWith("Movies archive", null, false);
+        final var series = categoryWith("Series", null, true);
+        index.upsert(List.of(movies, moviesArchive, series));
+        index.refresh();
+
+        final var activeOnly = new CategorySearchFilter(true, null, null, null, null, null, null, null);
+        final var byPrefix = new CategorySearchFilter(null, null, null, null, null, null, "MOVIES A", null);
+        final var byIds = new CategorySearchFilter(null, null, null, null, null, null, null, List.of(series.getId(), CategoryID.from("123")));
+
+        Assertions.assertEquals(List.of("Movies"), namesOf(index.search(filteredQuery("movies", activeOnly))));
+        Assertions.assertEquals(List.of("Movies archive"), namesOf(index.search(filteredQuery("", byPrefix))));
+        Assertions.assertEquals(List.of("Series"), namesOf(index.search(filteredQuery("", byIds))));
+
+        final var firstPage = index.search(relevanceQuery(0, 2, ""));
+        final var secondPage = index.search(relevanceQuery(1, 2, ""));
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    public void givenAnUpdatedAndADeletedCategory_whenCallsSearch_shouldReturnTheStoredFieldsOfTheLastVersion() throws IOException {
+        final var movies = categoryWith("Movies", null, true);
+        final var series = categoryWith("Series", null, true);
+        index.upsert(List.of(movies, series));
+
+        final var updated = Category.with(movies).update("Films", "Long ones", false);
+        index.upsert(List.of(updated));
+        index.delete(List.of(series.getId()));
+        index.refresh();
+
+        final var actualPage = index.search(relevanceQuery(0, 10, ""));
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        final var actualCategory = actualPage.items().get(0);
+        Assertions.assertEquals(updated.getId(), actualCategory.getId());
+        Assertions.assertEquals("Films", actualCategory.getName());
+        Assertions.assertEquals("Long ones", actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertEquals(updated.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(updated.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertEquals(updated.getDeletedAt(), actualCategory.getDeletedAt());
+        Assertions.assertEquals(Set.of(updated.getId()), index.ids());
+    }
+
+    @Test
+    public void givenACommittedIndex_whenReopened_shouldKeepItsDocumentsAndWatermark() throws IOException {
+        index.upsert(List.of(categoryWith("Movies", null, true)));
+        Assertions.assertEquals(Optional.empty(), index.watermark());
+
+        index.commit(NOW);
+        index.close();
+        index = CategorySearchIndex.open(directory);
+
+        Assertions.assertEquals(Optional.of(NOW), index.watermark());
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void givenATooDeepPage_whenCallsSearch_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'page' and 'perPage' should stay within the first 10000 results of a relevance search";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> index.search(relevanceQuery(100, 100, "movies"))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    private static Category categoryWith(final String aName, final String aDescription, final boolean isActive) {
+        return Category.with(CategoryID.unique(), aName, aDescription, isActive, NOW, NOW, isActive ? null : NOW);
+    }
+
+    private static CategorySearchQuery relevanceQuery(final int page, final int perPage, final String terms) {
+        return new CategorySearchQuery(page, perPage, terms, CategorySearchQuery.RELEVANCE, "desc");
+    }
+
+    private static CategorySearchQuery filteredQuery(final String terms, final CategorySearchFilter aFilter) {
+        return new CategorySearchQuery(0, 10, terms, CategorySearchQuery.RELEVANCE, "desc", null, true, null, aFilter);
+    }
+
+    private static List<String> namesOf(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(Category::getName).toList();
+    }
+}
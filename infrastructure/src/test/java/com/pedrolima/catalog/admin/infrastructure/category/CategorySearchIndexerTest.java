@@ -0,0 +1,136 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.MySQLGatewayTest;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+// Rows are committed, as the feed reads them in transactions of its own
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategorySearchIndexerTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private CategoryChangeFeed feed;
+    private CategorySearchIndexer indexer;
+
+    @AfterEach
+    public void cleanUp() {
+        stop();
+    }
+
+    @Test
+    public void givenNoIndex_whenStarts_shouldRebuildItFromTheTable() throws IOException {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var anime = Category.newCategory("Anime", null, false);
+        save(movies, series, anime);
+
+        start();
+        awaitUntil(() -> indexer.current().isPresent());
+
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId(), anime.getId()), indexer.current().get().ids());
+    }
+
+    @Test
+    public void givenARebuildRequest_whenItIsDone_shouldSwapTheNewIndexInAndKeepTheFeedGoing() throws IOException {
+        final var movies = Category.newCategory("Movies", null, true);
+        save(movies);
+        start();
+        awaitUntil(() -> indexer.current().isPresent());
+        final var previous = indexer.current().get();
+
+        // Written by another instance: only a poll or a rebuild reads it
+        final var series = Category.newCategory("Series", null, true);
+        save(series);
+
+        Assertions.assertTrue(indexer.rebuild());
+        awaitUntil(() -> indexer.current().orElse(previous) != previous);
+        feed.awaitPending();
+
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId()), indexer.current().get().ids());
+
+        final var anime = Category.newCategory("Anime", null, true);
+        save(anime);
+        feed.publishAfterCommit(List.of(anime), List.of());
+        feed.awaitPending();
+
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId(), anime.getId()), indexer.current().get().ids());
+    }
+
+    @Test
+    public void givenACommittedIndex_whenRestarts_shouldOpenItWithoutARebuild() throws IOException {
+        final var movies = Category.newCategory("Movies", null, true);
+        save(movies);
+        start();
+        awaitUntil(() -> indexer.current().isPresent());
+        stop();
+
+        final var series = Category.newCategory("Series", null, true);
+        save(series);
+        start();
+
+        Assertions.assertFalse(indexer.isRebuilding());
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId()), indexer.current().orElseThrow().ids());
+    }
+
+    // Opened (or rebuilt) and polled once, the next poll is an hour away
+    private void start() {
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        feed = new CategoryChangeFeed(categoryRepository, transactionTemplate, Duration.ofHours(1), Duration.ofSeconds(5), 30, 2);
+        indexer = new CategorySearchIndexer(directory, feed, Duration.ofHours(1));
+        indexer.start();
+        feed.awaitPending();
+    }
+
+    private void stop() {
+        if (indexer != null) {
+            indexer.close();
+            feed.close();
+            indexer = null;
+        }
+    }
+
+    // Rebuilds run on a thread of their own
+    private static void awaitUntil(final BooleanSupplier aCondition) {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!aCondition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Timed out");
+            LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+        }
+    }
+
+    private void save(final Category... aCategories) {
+        categoryRepository.saveAllAndFlush(Arrays.stream(aCategories)
+                .map(CategoryJpaEntity::from)
+                .toList()
+        );
+    }
+}
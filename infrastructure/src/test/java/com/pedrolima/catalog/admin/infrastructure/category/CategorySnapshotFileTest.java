@@ -0,0 +1,69 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+public class CategorySnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void givenCategories_whenCallsWriteThenRead_shouldReturnTheSameCategoriesAndWatermark() throws IOException {
+        final var createdAt = Instant.parse("2022-05-01T10:00:00.123456Z");
+        final var movies = Category.with(CategoryID.unique(), "Movies", "The most watched", true, createdAt, createdAt, null);
+        final var anime = Category.with(CategoryID.unique(), "\u00c1nime", null, false, createdAt, createdAt.plusSeconds(60), createdAt.plusSeconds(60));
+        final var expectedWatermark = createdAt.plusSeconds(60);
+        final var aFile = new CategorySnapshotFile(directory.resolve("snapshots").resolve("category.snapshot"));
+
+        aFile.write(List.of(movies, anime), expectedWatermark);
+        final var actualContent = aFile.read().orElseThrow();
+
+        Assertions.assertEquals(expectedWatermark, actualContent.watermark());
+        Assertions.assertNotNull(actualContent.writtenAt());
+        Assertions.assertEquals(2, actualContent.categories().size());
+        assertSameCategory(movies, actualContent.categories().get(0));
+        assertSameCategory(anime, actualContent.categories().get(1));
+    }
+
+    @Test
+    public void givenNoFile_whenCallsRead_shouldReturnEmpty() throws IOException {
+        final var aFile = new CategorySnapshotFile(directory.resolve("category.snapshot"));
+
+        Assertions.assertTrue(aFile.read().isEmpty());
+    }
+
+    @Test
+    public void givenACorruptedFile_whenCallsRead_shouldReturnEmpty() throws IOException {
+        final var aPath = directory.resolve("category.snapshot");
+        final var aFile = new CategorySnapshotFile(aPath);
+        final var createdAt = Instant.parse("2022-05-01T10:00:00Z");
+        aFile.write(List.of(Category.with(CategoryID.unique(), "Movies", null, true, createdAt, createdAt, null)), createdAt);
+
+        final var bytes = Files.readAllBytes(aPath);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(aPath, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        Assertions.assertTrue(aFile.read().isEmpty());
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        Assertions.assertEquals(expected.getId(), actual.getId());
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.isActive(), actual.isActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+    }
+}
@@ -0,0 +1,128 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.MySQLGatewayTest;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// The same queries against the table and against a snapshot of it must return the same pages
+@MySQLGatewayTest
+public class CategorySnapshotParityTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategorySnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        // Distinct names and timestamps: the collations of the database and of the snapshot agree on them
+        final var categories = List.of(
+                categoryAt("Movies", "The most watched", true, 1),
+                categoryAt("Series", "Episodes of movies", true, 2),
+                categoryAt("Documentaries", null, false, 3),
+                categoryAt("Anime", "Japanese series", true, 4),
+                categoryAt("Kids", null, false, 5),
+                categoryAt("Sports", "Live games", true, 6),
+                categoryAt("News", null, true, 7)
+        );
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+        snapshot = CategorySnapshot.of(categories, false);
+    }
+
+    @Test
+    public void givenEverySortAndDirection_whenCallsFindAll_shouldReturnTheSamePages() {
+        for (final var terms : List.of("", "ies", "MOV", "nothing")) {
+            for (final var sort : CategorySearchQuery.SORTABLE_FIELDS) {
+                for (final var direction : List.of("asc", "desc")) {
+                    for (int page = 0; page < 4; page++) {
+                        final var aQuery = new CategorySearchQuery(page, 2, terms, sort, direction);
+                        assertSamePage(aQuery, categoryGateway.findAll(aQuery), snapshot.findAll(aQuery));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void givenACursor_whenCallsFindAllPageAfterPage_shouldWalkThroughTheSameRows() {
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS) {
+            for (final var direction : List.of("asc", "desc")) {
+                final var aQuery = new CategorySearchQuery(0, 3, "", sort, direction, null, false);
+                Assertions.assertEquals(
+                        walk(aQuery, categoryGateway::findAll),
+                        walk(aQuery, snapshot::findAll),
+                        "%s %s".formatted(sort, direction)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void givenFilters_whenCallsFindAll_shouldReturnTheSamePages() {
+        final var filters = List.of(
+                new CategorySearchFilter(true, null, null, null, null, null, null, List.of()),
+                new CategorySearchFilter(false, null, null, null, null, null, null, List.of()),
+                new CategorySearchFilter(null, NOW.plusSeconds(2), NOW.plusSeconds(5), null, null, null, null, List.of()),
+                new CategorySearchFilter(null, null, null, null, null, null, "s", List.of()),
+                new CategorySearchFilter(null, null, null, null, null, "movies", null, List.of())
+        );
+        for (final var aFilter : filters) {
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", null, true, Set.of(), aFilter);
+            assertSamePage(aQuery, categoryGateway.findAll(aQuery), snapshot.findAll(aQuery));
+        }
+    }
+
+    private static List<CategoryID> walk(final CategorySearchQuery aQuery, final Function<CategorySearchQuery, Pagination<Category>> aSearch) {
+        final var ids = new ArrayList<CategoryID>();
+        String after = null;
+        do {
+            final var aPage = aSearch.apply(new CategorySearchQuery(
+                    0, aQuery.perPage(), aQuery.terms(), aQuery.sort(), aQuery.direction(), after, false
+            ));
+            aPage.items().forEach(aCategory -> ids.add(aCategory.getId()));
+            after = aPage.hasNext() ? aPage.nextCursor() : null;
+        } while (after != null);
+        return ids;
+    }
+
+    private static void assertSamePage(
+            final CategorySearchQuery aQuery,
+            final Pagination<Category> expected,
+            final Pagination<Category> actual
+    ) {
+        Assertions.assertEquals(expected.total(), actual.total(), aQuery.toString());
+        Assertions.assertEquals(expected.hasNext(), actual.hasNext(), aQuery.toString());
+        Assertions.assertEquals(
+                expected.items().stream().map(Category::getId).toList(),
+                actual.items().stream().map(Category::getId).toList(),
+                aQuery.toString()
+        );
+    }
+
+    private static Category categoryAt(final String aName, final String aDescription, final boolean isActive, final int second) {
+        final var createdAt = NOW.plusSeconds(second);
+        final var updatedAt = NOW.plusSeconds(10 - second);
+        return Category.with(CategoryID.unique(), aName, aDescription, isActive, createdAt, updatedAt, isActive ? null : updatedAt);
+    }
+}
@@ -0,0 +1,281 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.MySQLGatewayTest;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Rows are committed, as the feed reads them in transactions of its own
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategorySnapshotStoreTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private CategoryChangeFeed feed;
+    private CategorySnapshotStore store;
+
+    @AfterEach
+    public void cleanUp() {
+        if (store != null) {
+            store.close();
+        }
+        if (feed != null) {
+            feed.close();
+        }
+    }
+
+    @Test
+    public void givenStoredCategories_whenStarts_shouldLoadThemAllChunkByChunk() {
+        final var movies = categoryAt("Movies", NOW);
+        final var series = categoryAt("Series", NOW.plusSeconds(1));
+        final var anime = categoryAt("Anime", NOW.plusSeconds(2));
+        save(movies, series, anime);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+
+        Assertions.assertTrue(store.current().isEmpty());
+
+        start();
+
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId(), anime.getId()), idsOf(store));
+        Assertions.assertEquals(List.of("Movies"), namesOf(store.suggestions().orElseThrow().suggest("mov", 10)));
+    }
+
+    @Test
+    public void givenARowCommittedBehindTheWatermark_whenPolls_shouldReadItWithinThePollOverlapOnly() {
+        // Ahead of the clock, so that the watermark is the updated_at of "Movies" rather than the start of the load
+        final var later = NOW.plus(Duration.ofHours(1));
+        final var movies = categoryAt("Movies", later);
+        save(movies);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        // Committed after the first poll read "Movies", with an older updated_at
+        final var series = categoryAt("Series", later.minusSeconds(2));
+        final var anime = categoryAt("Anime", later.minusSeconds(10));
+        save(series, anime);
+
+        feed.pollNow(false);
+
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId()), idsOf(store));
+    }
+
+    @Test
+    public void givenARowDeletedByAnotherInstance_whenPolls_shouldDropItOnReconcileOnly() {
+        final var movies = categoryAt("Movies", NOW);
+        final var series = categoryAt("Series", NOW);
+        save(movies, series);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        categoryRepository.deleteById(UUID.fromString(series.getId().getValue()));
+
+        feed.pollNow(false);
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId()), idsOf(store));
+
+        feed.pollNow(true);
+        Assertions.assertEquals(Set.of(movies.getId()), idsOf(store));
+    }
+
+    @Test
+    public void givenAsManyRowsAsTheTable_whenReconciles_shouldNotReadTheIds() {
+        final var movies = categoryAt("Movies", NOW);
+        final var series = categoryAt("Series", NOW);
+        save(movies, series);
+        final var aRepository = Mockito.mock(CategoryRepository.class, AdditionalAnswers.delegatesTo(categoryRepository));
+        store = newStore(aRepository);
+        start();
+        Mockito.clearInvocations(aRepository);
+
+        feed.pollNow(true);
+        Mockito.verify(aRepository, Mockito.never()).findAllIds();
+
+        categoryRepository.deleteById(UUID.fromString(series.getId().getValue()));
+        feed.pollNow(true);
+
+        Mockito.verify(aRepository, Mockito.times(1)).findAllIds();
+        Assertions.assertEquals(Set.of(movies.getId()), idsOf(store));
+    }
+
+    @Test
+    public void givenCommittedWrites_whenPublishedAfterCommit_shouldApplyThemOnThePollingThread() {
+        final var movies = categoryAt("Movies", NOW);
+        save(movies);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        final var series = categoryAt("Series", NOW.plusSeconds(1));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryRepository.save(CategoryJpaEntity.from(series));
+            categoryRepository.deleteById(UUID.fromString(movies.getId().getValue()));
+            feed.publishAfterCommit(List.of(series), List.of(movies.getId()));
+        });
+        feed.awaitPending();
+
+        Assertions.assertEquals(Set.of(series.getId()), idsOf(store));
+    }
+
+    @Test
+    public void givenARolledBackWrite_whenPublishedAfterCommit_shouldNotApplyIt() {
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        final var movies = categoryAt("Movies", NOW);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryRepository.save(CategoryJpaEntity.from(movies));
+            feed.publishAfterCommit(List.of(movies), List.of());
+            status.setRollbackOnly();
+        });
+        feed.awaitPending();
+
+        Assertions.assertEquals(Set.of(), idsOf(store));
+    }
+
+    @Test
+    public void givenAnUpsertOlderThanTheHeldRow_whenPublishedAfterCommit_shouldKeepTheHeldRow() {
+        final var movies = categoryAt("Movies", NOW);
+        save(movies);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        final var outdated = Category.with(movies.getId(), "Films", null, true, NOW, NOW.minusSeconds(1), null);
+        feed.publishAfterCommit(List.of(outdated), List.of());
+        feed.awaitPending();
+
+        Assertions.assertEquals(List.of("Movies"), namesOf(store.suggestions().orElseThrow().suggest("", 10)));
+    }
+
+    @Test
+    public void givenAWriteOfUnknownRows_whenCallsReconcileAfterCommit_shouldReconcileOnThePollingThread() {
+        final var movies = categoryAt("Movies", NOW);
+        final var series = categoryAt("Series", NOW);
+        save(movies, series);
+        store = newStore(Duration.ofHours(1), null, Duration.ZERO);
+        start();
+
+        categoryRepository.deleteById(UUID.fromString(series.getId().getValue()));
+        feed.reconcileAfterCommit();
+        feed.awaitPending();
+
+        Assertions.assertEquals(Set.of(movies.getId()), idsOf(store));
+    }
+
+    @Test
+    public void givenASnapshotNotRefreshedForTooLong_whenCallsCurrent_shouldReturnEmpty() {
+        save(categoryAt("Movies", NOW));
+        store = newStore(Duration.ZERO, null, Duration.ZERO);
+
+        start();
+
+        Assertions.assertEquals(1, store.size());
+        Assertions.assertTrue(store.current().isEmpty());
+        Assertions.assertTrue(store.suggestions().isEmpty());
+    }
+
+    @Test
+    public void givenARecentFile_whenStarts_shouldServeItAndReadOnlyWhatChangedSince() throws IOException {
+        final var movies = categoryAt("Movies", NOW.minus(Duration.ofHours(1)));
+        final var deleted = categoryAt("Deleted", NOW.minus(Duration.ofHours(1)));
+        save(movies);
+        final var aFile = new CategorySnapshotFile(directory.resolve("category.snapshot"));
+        final var written = Category.with(movies.getId(), "Written", null, true, movies.getCreatedAt(), movies.getUpdatedAt(), null);
+        aFile.write(List.of(written, deleted), NOW);
+        store = newStore(Duration.ofHours(1), aFile, Duration.ofHours(1));
+
+        start();
+
+        // "Movies" is behind the watermark of the file, only the first reconcile went to the database
+        Assertions.assertEquals(List.of("Written"), namesOf(store.suggestions().orElseThrow().suggest("", 10)));
+    }
+
+    @Test
+    public void givenAnOutdatedFile_whenStarts_shouldLoadFromTheDatabase() throws IOException {
+        final var movies = categoryAt("Movies", NOW.minus(Duration.ofHours(1)));
+        save(movies);
+        final var aFile = new CategorySnapshotFile(directory.resolve("category.snapshot"));
+        final var written = Category.with(movies.getId(), "Written", null, true, movies.getCreatedAt(), movies.getUpdatedAt(), null);
+        aFile.write(List.of(written), NOW);
+        store = newStore(Duration.ofHours(1), aFile, Duration.ZERO);
+
+        start();
+
+        Assertions.assertEquals(List.of("Movies"), namesOf(store.suggestions().orElseThrow().suggest("", 10)));
+    }
+
+    private CategorySnapshotStore newStore(final Duration maxStaleness, final CategorySnapshotFile aFile, final Duration fileMaxAge) {
+        return newStore(categoryRepository, maxStaleness, aFile, fileMaxAge);
+    }
+
+    private CategorySnapshotStore newStore(final CategoryRepository aRepository) {
+        return newStore(aRepository, Duration.ofHours(1), null, Duration.ZERO);
+    }
+
+    private CategorySnapshotStore newStore(
+            final CategoryRepository aRepository,
+            final Duration maxStaleness,
+            final CategorySnapshotFile aFile,
+            final Duration fileMaxAge
+    ) {
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        feed = new CategoryChangeFeed(aRepository, transactionTemplate, Duration.ofHours(1), Duration.ofSeconds(5), 0, 2);
+        return new CategorySnapshotStore(feed, maxStaleness, false, aFile, Duration.ofHours(1), fileMaxAge);
+    }
+
+    // Opened (or loaded) and polled once, the next poll is an hour away
+    private void start() {
+        store.start();
+        feed.awaitPending();
+    }
+
+    private static Category categoryAt(final String aName, final Instant updatedAt) {
+        return Category.with(CategoryID.unique(), aName, null, true, updatedAt, updatedAt, null);
+    }
+
+    private static Set<CategoryID> idsOf(final CategorySnapshotStore aStore) {
+        return aStore.current().orElseThrow().ids();
+    }
+
+    private static List<String> namesOf(final List<CategorySummary> summaries) {
+        return summaries.stream().map(CategorySummary::name).toList();
+    }
+
+    private void save(final Category... aCategories) {
+        categoryRepository.saveAllAndFlush(Arrays.stream(aCategories)
+                .map(CategoryJpaEntity::from)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,228 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchFilter;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.exceptions.DomainException;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class CategorySnapshotTest {
+
+    private static final Instant NOW = Instant.parse("2022-05-01T10:00:00.000001Z");
+
+    @Test
+    public void givenCategories_whenCallsFindAllSortedByName_shouldPageCaseAndAccentInsensitively() {
+        final var aSnapshot = CategorySnapshot.of(List.of(
+                categoryWith("Movies", null, true, 0),
+                categoryWith("series", null, true, 1),
+                categoryWith("Documentaries", null, true, 2),
+                categoryWith("\u00c1nime", null, true, 3)
+        ), false);
+
+        final var firstPage = aSnapshot.findAll(new CategorySearchQuery(0, 2, "", "name", "asc"));
+        final var secondPage = aSnapshot.findAll(new CategorySearchQuery(1, 2, "", "name", "asc"));
+        final var descending = aSnapshot.findAll(new CategorySearchQuery(0, 2, "", "name", "desc"));
+
+        Assertions.assertEquals(List.of("\u00c1nime", "Documentaries"), namesOf(firstPage));
+        Assertions.assertEquals(4, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(List.of("Movies", "series"), namesOf(secondPage));
+        Assertions.assertFalse(secondPage.hasNext());
+        Assertions.assertEquals(List.of("series", "Movies"), namesOf(descending));
+    }
+
+    @Test
+    public void givenSameNames_whenCallsFindAll_shouldBreakTiesByTheIdAsUnsignedBytes() {
+        final var highId = CategoryID.from("80000000-0000-7000-8000-000000000000");
+        final var lowId = CategoryID.from("7fffffff-0000-7000-8000-000000000000");
+
+        final var aSnapshot = CategorySnapshot.of(List.of(
+                Category.with(highId, "Movies", null, true, NOW, NOW, null),
+                Category.with(lowId, "Movies", null, true, NOW, NOW, null)
+        ), false);
+
+        final var actualPage = aSnapshot.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(List.of(lowId, highId), actualPage.items().stream().map(Category::getId).toList());
+    }
+
+    @Test
+    public void givenTermsAndFilters_whenCallsFindAll_shouldMatchLikeTheDatabase() {
+        final var movies = categoryWith("Movies", "The most watched", true, 0);
+        final var anime = categoryWith("\u00c1nime", null, false, 1);
+        final var series = categoryWith("Series", "Watched weekly", true, 2);
+        final var aSnapshot = CategorySnapshot.of(List.of(movies, anime, series), false);
+
+        Assertions.assertEquals(List.of("\u00c1nime"), namesOf(aSnapshot.findAll(new CategorySearchQuery(0, 10, "ANIM", "name", "asc"))));
+        Assertions.assertEquals(List.of("Movies", "Series"), namesOf(aSnapshot.findAll(new CategorySearchQuery(0, 10, "w\u00e1tched", "name", "asc"))));
+        Assertions.assertEquals(List.of("Movies"), namesOf(aSnapshot.findAll(new CategorySearchQuery(0, 10, "m_vie", "name", "asc"))));
+        Assertions.assertEquals(List.of("\u00c1nime"), namesOf(aSnapshot.findAll(queryWith(filterWith(false, null, null)))));
+        Assertions.assertEquals(List.of("Movies"), namesOf(aSnapshot.findAll(queryWith(filterWith(null, "MOV", null)))));
+        Assertions.assertEquals(List.of("Series"), namesOf(aSnapshot.findAll(queryWith(filterWith(null, null, List.of(series.getId(), CategoryID.from("123")))))));
+        Assertions.assertTrue(aSnapshot.findAll(queryWith(filterWith(null, null, List.of(CategoryID.from("123"))))).items().isEmpty());
+    }
+
+    @Test
+    public void givenQuotedTerms_whenCallsFindAllWithFullTextSearch_shouldChooseTheMatchFromThePhraseWords() {
+        final var movies = categoryWith("Movies", null, true, 0);
+        final var anime = categoryWith("Anime", null, true, 1);
+        final var aSnapshot = CategorySnapshot.of(List.of(movies, anime), true);
+
+        Assertions.assertEquals(List.of("Movies"), namesOf(aSnapshot.findAll(new CategorySearchQuery(0, 10, "\"MOV\"", "name", "asc"))));
+        Assertions.assertTrue(aSnapshot.findAll(new CategorySearchQuery(0, 10, "\"\"a", "name", "asc")).items().isEmpty());
+    }
+
+    @Test
+    public void givenAFilterWithoutTotal_whenCallsFindAll_shouldReturnUnknownTotal() {
+        final var aSnapshot = CategorySnapshot.of(List.of(categoryWith("Movies", null, true, 0)), false);
+
+        final var filtered = aSnapshot.findAll(new CategorySearchQuery(0, 10, "mov", "name", "asc", null, false));
+        final var unfiltered = aSnapshot.findAll(new CategorySearchQuery(0, 10, "", "name", "asc", null, false));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, filtered.total());
+        Assertions.assertEquals(1, unfiltered.total());
+    }
+
+    @Test
+    public void givenFollowCursor_whenCallsFindAllWithAfter_shouldSeekLikeOffsetPages() {
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 7; i++) {
+            categories.add(categoryWith("Category " + (i % 3), null, true, i));
+        }
+        final var aSnapshot = CategorySnapshot.of(categories, false);
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var byOffset = namesAndIdsOf(aSnapshot.findAll(new CategorySearchQuery(0, 7, "", "name", direction)));
+
+            final var bySeek = new ArrayList<String>();
+            String after = null;
+            do {
+                final var aPage = aSnapshot.findAll(new CategorySearchQuery(0, 3, "", "name", direction, after));
+                bySeek.addAll(namesAndIdsOf(aPage));
+                after = aPage.nextCursor();
+            } while (after != null);
+
+            Assertions.assertEquals(byOffset, bySeek);
+        }
+    }
+
+    @Test
+    public void givenANotWhitelistedSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' should be one of 'name', 'createdAt', 'updatedAt', 'active,name', 'active,createdAt'";
+        final var aSnapshot = CategorySnapshot.of(List.of(), false);
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aSnapshot.findAll(new CategorySearchQuery(0, 10, "", "description", "asc"))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenFields_whenCallsFindAllSummaries_shouldFillTheIdTheFieldsAndTheSeekKey() {
+        final var movies = categoryWith("Movies", "The most watched", true, 0);
+        final var aSnapshot = CategorySnapshot.of(List.of(movies), false);
+
+        final var actualSummary = aSnapshot.findAllSummaries(
+                new CategorySearchQuery(0, 10, "", "createdAt", "asc", null, true, Set.of("name"))
+        ).items().get(0);
+
+        Assertions.assertEquals(
+                new CategorySummary(movies.getId(), "Movies", null, null, movies.getCreatedAt(), null, null),
+                actualSummary
+        );
+    }
+
+    @Test
+    public void givenUpsertsAndRemovals_whenCallsWith_shouldLeaveTheOriginalUntouched() {
+        final var movies = categoryWith("Movies", null, true, 0);
+        final var series = categoryWith("Series", null, true, 1);
+        final var aSnapshot = CategorySnapshot.of(List.of(movies, series), false);
+
+        final var renamed = Category.with(movies).update("Films", null, true);
+        final var actualSnapshot = aSnapshot.with(List.of(renamed), List.of(series.getId()));
+
+        Assertions.assertEquals(List.of("Films"), namesOf(actualSnapshot.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"))));
+        Assertions.assertEquals(List.of("Movies", "Series"), namesOf(aSnapshot.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"))));
+        Assertions.assertTrue(actualSnapshot.contains(renamed));
+        Assertions.assertFalse(aSnapshot.contains(renamed));
+    }
+
+    @Test
+    public void givenRandomChanges_whenCallsWith_shouldSearchLikeASnapshotBuiltFromScratch() {
+        final var random = new Random(11);
+        final var names = List.of("Movies", "movies", "Series", "\u00c1nime", "Documentaries", "Shows");
+        final var current = new LinkedHashMap<CategoryID, Category>();
+        var aSnapshot = CategorySnapshot.of(List.of(), false);
+
+        for (int round = 0; round < 50; round++) {
+            final var upserts = new ArrayList<Category>();
+            final var removals = new ArrayList<CategoryID>();
+            final var previousIds = List.copyOf(current.keySet());
+            for (int i = random.nextInt(8); i > 0; i--) {
+                final var aCategory = categoryWith(names.get(random.nextInt(names.size())), "round " + round, random.nextBoolean(), random.nextInt(30));
+                upserts.add(aCategory);
+                current.put(aCategory.getId(), aCategory);
+            }
+            for (final var anId : previousIds) {
+                switch (random.nextInt(6)) {
+                    case 0 -> {
+                        removals.add(anId);
+                        current.remove(anId);
+                    }
+                    case 1 -> {
+                        final var updated = Category.with(current.get(anId)).update(names.get(random.nextInt(names.size())), "updated", random.nextBoolean());
+                        upserts.add(updated);
+                        current.put(anId, updated);
+                    }
+                    default -> {
+                    }
+                }
+            }
+            aSnapshot = aSnapshot.with(upserts, removals);
+
+            final var expectedSnapshot = CategorySnapshot.of(current.values(), false);
+            for (final var sort : CategorySearchQuery.SORTABLE_FIELDS) {
+                for (final var direction : List.of("asc", "desc")) {
+                    final var aQuery = new CategorySearchQuery(0, 100, "ies", sort, direction);
+                    Assertions.assertEquals(namesAndIdsOf(expectedSnapshot.findAll(aQuery)), namesAndIdsOf(aSnapshot.findAll(aQuery)), sort);
+                }
+            }
+            Assertions.assertEquals(current.keySet(), aSnapshot.ids());
+        }
+    }
+
+    private static Category categoryWith(final String aName, final String aDescription, final boolean isActive, final int minutes) {
+        final var createdAt = NOW.plus(minutes, ChronoUnit.MINUTES);
+        return Category.with(CategoryID.unique(), aName, aDescription, isActive, createdAt, createdAt, isActive ? null : createdAt);
+    }
+
+    private static CategorySearchFilter filterWith(final Boolean active, final String namePrefix, final List<CategoryID> ids) {
+        return new CategorySearchFilter(active, null, null, null, null, null, namePrefix, ids);
+    }
+
+    private static CategorySearchQuery queryWith(final CategorySearchFilter aFilter) {
+        return new CategorySearchQuery(0, 10, "", "name", "asc", null, true, null, aFilter);
+    }
+
+    private static List<String> namesOf(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(Category::getName).toList();
+    }
+
+    private static List<String> namesAndIdsOf(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(aCategory -> aCategory.getName() + "/" + aCategory.getId().getValue()).toList();
+    }
+}
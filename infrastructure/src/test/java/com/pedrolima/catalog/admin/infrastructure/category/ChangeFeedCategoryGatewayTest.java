@@ -0,0 +1,82 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeFeedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private CategoryChangeFeed feed;
+
+    private ChangeFeedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new ChangeFeedCategoryGateway(delegate, feed);
+    }
+
+    @Test
+    public void givenWrites_whenCallsThem_shouldPublishWhatTheDelegateWroteAfterCommit() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var written = Category.with(aCategory);
+        when(delegate.create(aCategory)).thenReturn(written);
+        when(delegate.update(aCategory)).thenReturn(written);
+        when(delegate.createAll(List.of(aCategory))).thenReturn(List.of(written));
+
+        categoryGateway.create(aCategory);
+        categoryGateway.update(aCategory);
+        categoryGateway.createAll(List.of(aCategory));
+        categoryGateway.deleteById(aCategory.getId());
+
+        verify(feed, times(3)).publishAfterCommit(List.of(written), List.of());
+        verify(feed).publishAfterCommit(List.of(), List.of(aCategory.getId()));
+        verify(feed, never()).reconcileAfterCommit();
+    }
+
+    @Test
+    public void givenBulkUpdates_whenCallsThem_shouldAskForAReconcileAfterCommit() {
+        final var anId = CategoryID.unique();
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.bulkUpdate(CategoryBulkAction.DELETE, List.of(anId))).thenReturn(1L);
+        when(delegate.bulkUpdate(CategoryBulkAction.ACTIVATE, aQuery)).thenReturn(2L);
+
+        Assertions.assertEquals(1L, categoryGateway.bulkUpdate(CategoryBulkAction.DELETE, List.of(anId)));
+        Assertions.assertEquals(2L, categoryGateway.bulkUpdate(CategoryBulkAction.ACTIVATE, aQuery));
+
+        verify(feed, times(2)).reconcileAfterCommit();
+        verify(feed, never()).publishAfterCommit(any(), any());
+    }
+
+    @Test
+    public void givenReads_whenCallsThem_shouldNotPublishAnything() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        categoryGateway.findById(CategoryID.unique());
+        categoryGateway.findAll(aQuery);
+        categoryGateway.findSuggestions("mo", 10);
+
+        verifyNoInteractions(feed);
+    }
+}
@@ -0,0 +1,72 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+public class FoldedTextColumnTest {
+
+    @Test
+    public void givenValues_whenCallsMatching_shouldReturnTheRowsContainingTheNeedle() {
+        final var aColumn = FoldedTextColumn.of(new String[]{"movies", null, "series", "", "documentaries", "a\u00e7\u00e3o"});
+
+        Assertions.assertEquals(bitsOf(0, 2, 4), aColumn.matching("ies", TextScan.SCALAR));
+        Assertions.assertEquals(bitsOf(0, 2, 4), aColumn.matching("ies", new VectorTextScan()));
+        Assertions.assertEquals(bitsOf(5), aColumn.matching("\u00e3o", new VectorTextScan()));
+        Assertions.assertEquals(bitsOf(), aColumn.matching("seriesdoc", new VectorTextScan()));
+    }
+
+    @Test
+    public void givenManyRows_whenCallsMatching_shouldMatchLikeStringContainsOnEveryScan() {
+        final var random = new Random(7);
+        final var alphabet = "abc \u00e9";
+        final var values = new String[FoldedTextColumn.ROWS_PER_TASK * 3 + 17];
+        for (int i = 0; i < values.length; i++) {
+            final var aValue = new StringBuilder();
+            final var length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                aValue.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            values[i] = random.nextInt(10) == 0 ? null : aValue.toString();
+        }
+        final var aColumn = FoldedTextColumn.of(values);
+
+        for (final var aNeedle : List.of("a", "ab", "c \u00e9", "abcab", "\u00e9\u00e9\u00e9\u00e9")) {
+            final var expected = new BitSet();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && values[i].contains(aNeedle)) {
+                    expected.set(i);
+                }
+            }
+
+            Assertions.assertEquals(expected, aColumn.matching(aNeedle, TextScan.SCALAR), aNeedle);
+            Assertions.assertEquals(expected, aColumn.matching(aNeedle, new VectorTextScan()), aNeedle);
+        }
+    }
+
+    @Test
+    public void givenDroppedAndAppendedRows_whenCallsWith_shouldMatchLikeAColumnOfTheRemainingValues() {
+        final var aColumn = FoldedTextColumn.of(new String[]{"movies", null, "series", "", "documentaries", "a\u00e7\u00e3o"});
+        final var dropped = bitsOf(0, 2, 3);
+
+        final var actualColumn = aColumn.with(dropped, new String[]{"new series", null});
+        final var expectedColumn = FoldedTextColumn.of(new String[]{null, "documentaries", "a\u00e7\u00e3o", "new series", null});
+
+        Assertions.assertEquals(5, actualColumn.size());
+        for (final var aNeedle : List.of("", "ies", "series", "\u00e3o", "s d")) {
+            Assertions.assertEquals(expectedColumn.matching(aNeedle, TextScan.SCALAR), actualColumn.matching(aNeedle, TextScan.SCALAR), aNeedle);
+        }
+        Assertions.assertEquals(bitsOf(0, 2, 4), aColumn.matching("ies", TextScan.SCALAR));
+    }
+
+    private static BitSet bitsOf(final int... positions) {
+        final var bits = new BitSet();
+        for (final var position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+}
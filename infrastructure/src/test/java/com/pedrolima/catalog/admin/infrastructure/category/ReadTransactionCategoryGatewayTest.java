@@ -0,0 +1,78 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadTransactionCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReadTransactionCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new ReadTransactionCategoryGateway(delegate, transactionManager);
+    }
+
+    @Test
+    public void givenAFindById_whenCallsIt_shouldRunItInAReadOnlyTransaction() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    public void givenAFindAll_whenCallsIt_shouldRunItInAReadOnlyTransaction() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        categoryGateway.findAll(aQuery);
+
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    public void givenAWrite_whenCallsIt_shouldNotBeginATransaction() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.update(aCategory)).thenReturn(aCategory);
+
+        categoryGateway.update(aCategory);
+        categoryGateway.deleteById(aCategory.getId());
+
+        verify(delegate, times(1)).deleteById(aCategory.getId());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
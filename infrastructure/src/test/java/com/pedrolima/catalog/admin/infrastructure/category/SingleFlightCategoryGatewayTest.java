@@ -0,0 +1,196 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategoryID;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SingleFlightCategoryGatewayTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private SingleFlightCategoryGateway categoryGateway;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new SingleFlightCategoryGateway(delegate);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentFindByIdOfTheSameId_whenTheFirstCallIsInFlight_shouldCallTheDelegateOnce() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findById(aCategory.getId())).thenAnswer(call -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(aCategory);
+        });
+
+        final var results = submit(() -> categoryGateway.findById(aCategory.getId()).get());
+        Assertions.assertEquals(1, categoryGateway.inFlight());
+        release.countDown();
+
+        for (final var aResult : results) {
+            Assertions.assertEquals(aCategory.getId(), aResult.get(5, TimeUnit.SECONDS).getId());
+        }
+        verify(delegate, times(1)).findById(aCategory.getId());
+        Assertions.assertEquals(0, categoryGateway.inFlight());
+    }
+
+    @Test
+    public void givenConcurrentFindAllOfEquivalentQueries_whenTheCallFails_shouldShareTheFailure() throws Exception {
+        final var expectedErrorMessage = "Gateway error";
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findAll(any())).thenAnswer(call -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        final List<Future<Pagination<Category>>> results =
+                submit(() -> categoryGateway.findAll(new CategorySearchQuery(0, 10, " Movies", "name", "ASC")));
+        Assertions.assertEquals(1, categoryGateway.inFlight());
+        release.countDown();
+
+        for (final var aResult : results) {
+            final var actualException = Assertions.assertThrows(ExecutionException.class, () -> aResult.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+        }
+        verify(delegate, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenTheSameFindByIdIsInFlight_shouldCallTheDelegateOnItsOwn() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var release = new CountDownLatch(1);
+
+        // Only the callers outside the transaction are held in the delegate
+        when(delegate.findById(aCategory.getId())).thenAnswer(call -> {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.of(aCategory);
+        });
+
+        final var results = submit(() -> categoryGateway.findById(aCategory.getId()).get());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        try {
+            Assertions.assertEquals(aCategory.getId(), categoryGateway.findById(aCategory.getId()).get().getId());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(delegate, times(2)).findById(aCategory.getId());
+
+        release.countDown();
+        for (final var aResult : results) {
+            Assertions.assertEquals(aCategory.getId(), aResult.get(5, TimeUnit.SECONDS).getId());
+        }
+        verify(delegate, times(2)).findById(aCategory.getId());
+    }
+
+    // The transaction (and its pooled connection) is begun under the single-flight layer, only by the first caller
+    @Test
+    public void givenConcurrentFindByIdOverAReadTransaction_whenTheFirstCallIsInFlight_shouldBeginOneTransaction() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var release = new CountDownLatch(1);
+        final var transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        categoryGateway = new SingleFlightCategoryGateway(new ReadTransactionCategoryGateway(delegate, transactionManager));
+
+        when(delegate.findById(aCategory.getId())).thenAnswer(call -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(aCategory);
+        });
+
+        final var results = submit(() -> categoryGateway.findById(aCategory.getId()).get());
+        verify(transactionManager, times(1)).getTransaction(any());
+        release.countDown();
+
+        for (final var aResult : results) {
+            Assertions.assertEquals(aCategory.getId(), aResult.get(5, TimeUnit.SECONDS).getId());
+        }
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    public void givenSequentialFindById_whenNothingIsInFlight_shouldCallTheDelegateEachTime() {
+        final var anId = CategoryID.unique();
+
+        when(delegate.findById(anId)).thenReturn(Optional.empty());
+
+        categoryGateway.findById(anId);
+        categoryGateway.findById(anId);
+
+        verify(delegate, times(2)).findById(anId);
+    }
+
+    // Returns once every caller is parked: the first one in the delegate, the others waiting for its result. Each one
+    // counts down before calling, a pool thread still waiting for its task is parked too
+    private <T> List<Future<T>> submit(final Callable<T> aCall) throws InterruptedException {
+        final var started = new CountDownLatch(CALLERS);
+        final var callers = new CopyOnWriteArrayList<Thread>();
+        final var results = new ArrayList<Future<T>>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                callers.add(Thread.currentThread());
+                started.countDown();
+                return aCall.call();
+            }));
+        }
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS), "Callers not started");
+
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!callers.stream().allMatch(SingleFlightCategoryGatewayTest::isParked)) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Callers not parked");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return results;
+    }
+
+    private static boolean isParked(final Thread aThread) {
+        final var state = aThread.getState();
+        return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+}
@@ -0,0 +1,100 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategoryBulkAction;
+import com.pedrolima.catalog.admin.domain.category.CategoryGateway;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.category.CategorySummary;
+import com.pedrolima.catalog.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private CategorySnapshotStore store;
+
+    private SnapshotCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new SnapshotCategoryGateway(delegate, store);
+    }
+
+    @Test
+    public void givenACurrentSnapshot_whenCallsFindAll_shouldNotReachTheDelegate() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        when(store.current()).thenReturn(Optional.of(CategorySnapshot.of(List.of(movies, series), false)));
+
+        final var actualPage = categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Movies", "Series"), actualPage.items().stream().map(Category::getName).toList());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    public void givenNoSnapshotToServe_whenCallsFindAllOrFindAllSummaries_shouldCallTheDelegate() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var expectedPage = new Pagination<Category>(0, 10, 0, List.of());
+        final var expectedSummaries = new Pagination<CategorySummary>(0, 10, 0, List.of());
+        when(store.current()).thenReturn(Optional.empty());
+        when(delegate.findAll(aQuery)).thenReturn(expectedPage);
+        when(delegate.findAllSummaries(aQuery)).thenReturn(expectedSummaries);
+
+        Assertions.assertSame(expectedPage, categoryGateway.findAll(aQuery));
+        Assertions.assertSame(expectedSummaries, categoryGateway.findAllSummaries(aQuery));
+    }
+
+    @Test
+    public void givenSuggestionsToServe_whenCallsFindSuggestions_shouldNotReachTheDelegate() {
+        final var movies = Category.newCategory("Movies", null, true);
+        when(store.suggestions()).thenReturn(Optional.of(CategoryNameTrie.of(List.of(movies))));
+
+        final var actualSuggestions = categoryGateway.findSuggestions("mo", 10);
+
+        Assertions.assertEquals(List.of(movies.getId()), actualSuggestions.stream().map(CategorySummary::id).toList());
+        verify(delegate, never()).findSuggestions(anyString(), anyInt());
+    }
+
+    @Test
+    public void givenNoSuggestionsToServe_whenCallsFindSuggestions_shouldCallTheDelegate() {
+        when(store.suggestions()).thenReturn(Optional.empty());
+        when(delegate.findSuggestions("mo", 10)).thenReturn(List.of());
+
+        Assertions.assertEquals(List.of(), categoryGateway.findSuggestions("mo", 10));
+        verify(delegate).findSuggestions("mo", 10);
+    }
+
+    @Test
+    public void givenWrites_whenCallsThem_shouldLeaveTheSnapshotToTheChangeFeed() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        when(delegate.create(aCategory)).thenReturn(aCategory);
+        when(delegate.bulkUpdate(CategoryBulkAction.DELETE, List.of(aCategory.getId()))).thenReturn(1L);
+
+        Assertions.assertSame(aCategory, categoryGateway.create(aCategory));
+        Assertions.assertEquals(1L, categoryGateway.bulkUpdate(CategoryBulkAction.DELETE, List.of(aCategory.getId())));
+
+        verifyNoInteractions(store);
+    }
+}
@@ -0,0 +1,41 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.pedrolima.catalog.admin.JacksonTest;
+import com.pedrolima.catalog.admin.domain.validation.Error;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.util.List;
+
+@JacksonTest
+public class BatchCreateCategoryResponseTest {
+
+    @Autowired
+    private JacksonTester<BatchCreateCategoryResponse> json;
+
+    @Test
+    public void testMarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var response = new BatchCreateCategoryResponse(
+                1,
+                1,
+                List.of(
+                        new BatchCreateCategoryResponse.Item(0, expectedId, List.of()),
+                        new BatchCreateCategoryResponse.Item(1, null, List.of(new Error(expectedErrorMessage)))
+                ));
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+                .hasJsonPathValue("$.created", 1)
+                .hasJsonPathValue("$.failed", 1)
+                .hasJsonPathValue("$.items[0].index", 0)
+                .hasJsonPathValue("$.items[0].id", expectedId)
+                .hasJsonPathValue("$.items[1].index", 1)
+                .hasJsonPathValue("$.items[1].errors[0].message", expectedErrorMessage);
+    }
+}
@@ -0,0 +1,44 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.pedrolima.catalog.admin.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.io.IOException;
+import java.util.List;
+
+@JacksonTest
+public class BulkUpdateCategoryRequestTest {
+
+    @Autowired
+    private JacksonTester<BulkUpdateCategoryRequest> json;
+
+    @Test
+    public void testUnmarshall() throws IOException {
+        final var expectedAction = "DEACTIVATE";
+        final var expectedSearch = "movies";
+        final var expectedIds = List.of("123", "456");
+
+        final var json = """
+                {
+                    "action" : "%s",
+                    "search" : "%s",
+                    "ids" : ["%s", "%s"]
+                }
+                """.formatted(
+                expectedAction,
+                expectedSearch,
+                expectedIds.get(0),
+                expectedIds.get(1)
+        );
+
+        final var actualJson = this.json.parse(json);
+
+        Assertions.assertThat(actualJson)
+                .hasFieldOrPropertyWithValue("action", expectedAction)
+                .hasFieldOrPropertyWithValue("search", expectedSearch)
+                .hasFieldOrPropertyWithValue("ids", expectedIds);
+    }
+}
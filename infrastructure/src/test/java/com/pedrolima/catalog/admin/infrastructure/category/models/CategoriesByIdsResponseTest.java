@@ -0,0 +1,38 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.pedrolima.catalog.admin.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.time.Instant;
+import java.util.List;
+
+@JacksonTest
+public class CategoriesByIdsResponseTest {
+
+    @Autowired
+    private JacksonTester<CategoriesByIdsResponse> json;
+
+    @Test
+    public void testMarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedName = "Movies";
+        final var expectedMissingId = "456";
+        final var expectedCreatedAt = Instant.now();
+
+        final var response = new CategoriesByIdsResponse(
+                List.of(new CategoryResponse(expectedId, expectedName, null, true, expectedCreatedAt, expectedCreatedAt, null)),
+                List.of(expectedMissingId)
+        );
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+                .hasJsonPathValue("$.items[0].id", expectedId)
+                .hasJsonPathValue("$.items[0].name", expectedName)
+                .hasJsonPathValue("$.items[0].is_active", true)
+                .hasJsonPathValue("$.missing[0]", expectedMissingId);
+    }
+}
@@ -21,6 +21,7 @@ public class CategoryListResponseTest {
         final var expectedDescription = "The most watched category";
         final var expectedIsActive = true;
         final var expectedCreatedAt = Instant.now();
+        final var expectedUpdatedAt = Instant.now();
         final var expectedDeletedAt = Instant.now();
 
         final var response = new CategoryListResponse(
@@ -29,6 +30,7 @@ public class CategoryListResponseTest {
                 expectedDescription,
                 expectedIsActive,
                 expectedCreatedAt,
+                expectedUpdatedAt,
                 expectedDeletedAt);
 
         final var actualJson = json.write(response);
@@ -39,6 +41,7 @@ public class CategoryListResponseTest {
                 .hasJsonPathValue("$.description", expectedDescription)
                 .hasJsonPathValue("$.is_active", expectedIsActive)
                 .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
+                .hasJsonPathValue("$.updated_at", expectedUpdatedAt.toString())
                 .hasJsonPathValue("$.deleted_at", expectedDeletedAt.toString());
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.pedrolima.catalog.admin.infrastructure.category.models;
+
+import com.pedrolima.catalog.admin.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.io.IOException;
+import java.util.List;
+
+@JacksonTest
+public class MultiGetCategoryRequestTest {
+
+    @Autowired
+    private JacksonTester<MultiGetCategoryRequest> json;
+
+    @Test
+    public void testUnmarshall() throws IOException {
+        final var expectedIds = List.of("123", "456");
+
+        final var json = """
+                {
+                    "ids" : ["%s", "%s"]
+                }
+                """.formatted(expectedIds.get(0), expectedIds.get(1));
+
+        final var actualJson = this.json.parse(json);
+
+        Assertions.assertThat(actualJson)
+                .hasFieldOrPropertyWithValue("ids", expectedIds);
+    }
+}
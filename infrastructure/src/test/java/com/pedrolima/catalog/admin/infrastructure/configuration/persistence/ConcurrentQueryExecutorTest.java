@@ -0,0 +1,103 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrentQueryExecutorTest {
+
+    @Test
+    public void givenASerialExecutor_whenCallsFork_shouldRunOnCallerThread() {
+        final var executor = ConcurrentQueryExecutor.serial();
+        final var callerThread = Thread.currentThread();
+
+        final var actualThread = executor.fork(Thread::currentThread).get();
+
+        Assertions.assertSame(callerThread, actualThread);
+    }
+
+    @Test
+    public void givenAnIdleExecutor_whenCallsFork_shouldRunOnAnotherThread() {
+        final var executor = newExecutor(1);
+        final var callerThread = Thread.currentThread();
+
+        final var actualThread = executor.fork(Thread::currentThread).get();
+
+        Assertions.assertNotSame(callerThread, actualThread);
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenABusyExecutor_whenCallsFork_shouldFallbackToCallerThread() throws Exception {
+        final var executor = newExecutor(1);
+        final var callerThread = Thread.currentThread();
+        final var release = new CountDownLatch(1);
+        final var started = new CountDownLatch(1);
+
+        final var busy = executor.fork(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return Thread.currentThread();
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var actualThread = executor.fork(Thread::currentThread).get();
+
+        Assertions.assertSame(callerThread, actualThread);
+
+        release.countDown();
+        Assertions.assertNotSame(callerThread, busy.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenACallerPinnedToThePrimary_whenCallsFork_shouldPinTheForkedQueryOnlyWhileItRuns() {
+        final var executor = newExecutor(1);
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            Assertions.assertTrue(executor.fork(ReplicaRoutingDataSource::isPinnedToPrimary).get());
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+
+        Assertions.assertFalse(executor.fork(ReplicaRoutingDataSource::isPinnedToPrimary).get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void givenAForkedQueryThatFails_whenCallsGet_shouldRethrowTheCause() {
+        final var executor = newExecutor(1);
+        final var expectedErrorMessage = "Count error";
+
+        final var aFork = executor.<Long>fork(() -> {
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, aFork::get);
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        executor.shutdown();
+    }
+
+    private static ConcurrentQueryExecutor newExecutor(final int threads) {
+        final var pool = new ThreadPoolExecutor(0, threads, 1, TimeUnit.SECONDS, new SynchronousQueue<>());
+        final var transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+        return new ConcurrentQueryExecutor(pool, transactionTemplate, null);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
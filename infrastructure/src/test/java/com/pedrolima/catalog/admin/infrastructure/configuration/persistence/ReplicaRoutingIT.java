@@ -0,0 +1,144 @@
+package com.pedrolima.catalog.admin.infrastructure.configuration.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pedrolima.catalog.admin.IntegrationTest;
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.pedrolima.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.pedrolima.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.pedrolima.catalog.admin.domain.category.Category;
+import com.pedrolima.catalog.admin.domain.category.CategorySearchQuery;
+import com.pedrolima.catalog.admin.domain.exceptions.NotFoundException;
+import com.pedrolima.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.pedrolima.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.servlet.http.Cookie;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two H2 databases stand in for the primary (the test one) and its replica, which never receives the writes
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "persistence.replica.enabled=true",
+        "persistence.replica.datasource.url=" + ReplicaRoutingIT.REPLICA_URL,
+        "persistence.replica.datasource.username=root",
+        "persistence.replica.datasource.password=123456"
+})
+public class ReplicaRoutingIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE";
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        final var replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "root", "123456");
+
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.update("DELETE FROM category");
+    }
+
+    @Test
+    public void givenAWrite_whenCallsReadOnlyUseCases_shouldReadFromTheReplica() {
+        final var aCategory = Category.newCategory("Documentaries", null, true);
+        saveOnReplica(aCategory);
+
+        final var anOutput = createCategoryUseCase.execute(CreateCategoryCommand.with("Movies", null, true)).get();
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertThrows(NotFoundException.class, () -> getCategoryByIdUseCase.execute(anOutput.id()));
+
+        final var actualPage = listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(aCategory.getId(), actualPage.items().get(0).id());
+        Assertions.assertEquals(aCategory.getId(), getCategoryByIdUseCase.execute(aCategory.getId().getValue()).id());
+    }
+
+    @Test
+    public void givenAClientThatJustWrote_whenCallsGetCategory_shouldReadItsWriteFromThePrimary() throws Exception {
+        final var aRequest = post("/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new CreateCategoryRequest("Movies", null, true)));
+
+        final var aResponse = mvc.perform(aRequest)
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.LAST_WRITE_COOKIE))
+                .andReturn()
+                .getResponse();
+
+        final var aLocation = aResponse.getHeader("Location");
+        final var aLastWrite = aResponse.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE);
+
+        mvc.perform(get(aLocation).contentType(MediaType.APPLICATION_JSON).cookie(aLastWrite))
+                .andExpect(status().isOk());
+
+        mvc.perform(get(aLocation).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        final var anExpiredWrite = new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "0");
+        mvc.perform(get(aLocation).contentType(MediaType.APPLICATION_JSON).cookie(anExpiredWrite))
+                .andExpect(status().isNotFound());
+    }
+
+    private void saveOnReplica(final Category aCategory) {
+        final var anId = UUID.fromString(aCategory.getId().getValue());
+        final var idBytes = ByteBuffer.allocate(16)
+                .putLong(anId.getMostSignificantBits())
+                .putLong(anId.getLeastSignificantBits())
+                .array();
+
+        replica.update(
+                "INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                idBytes,
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                Timestamp.from(aCategory.getCreatedAt()),
+                Timestamp.from(aCategory.getUpdatedAt()),
+                null
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.pedrolima.catalog.admin.infrastructure.utils;
+
+import com.pedrolima.catalog.admin.infrastructure.configuration.persistence.FullTextFunctionsContributor;
+import org.hibernate.type.StandardBasicTypes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class SpecificationUtilsTest {
+
+    @Test
+    public void givenQuotedTerms_whenRendersMatchAgainst_shouldMatchTheirWordsAsOnePhrase() {
+        final var expectedSql = "MATCH(c.name, c.description) AGAINST('\"Movies of the week\"' IN BOOLEAN MODE)";
+
+        final var actualSql = render(SpecificationUtils.phraseOf(" \"Movies\" of the week "));
+
+        Assertions.assertEquals(expectedSql, actualSql);
+    }
+
+    @Test
+    public void givenTermsWithoutWords_whenCallsPhraseOf_shouldRejectThem() {
+        for (final var aTerm : List.of("\"\"", " \" \" ", "\"")) {
+            Assertions.assertEquals("", SpecificationUtils.phraseWordsOf(aTerm));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> SpecificationUtils.phraseOf(aTerm), aTerm);
+        }
+    }
+
+    private static String render(final String aPhrase) {
+        return FullTextFunctionsContributor.matchAgainst()
+                .render(StandardBasicTypes.DOUBLE, List.of("c.name", "c.description", "'" + aPhrase + "'"), null);
+    }
+}
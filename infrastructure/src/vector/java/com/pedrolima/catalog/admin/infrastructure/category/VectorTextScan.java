@@ -0,0 +1,34 @@
+package com.pedrolima.catalog.admin.infrastructure.category;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Compares a whole vector of candidate positions at once against the first and the last byte of the needle,
+// only the positions matching both are compared in full
+class VectorTextScan implements TextScan {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(final byte[] bytes, final int from, final int to, final byte[] needle) {
+        final var lastOffset = needle.length - 1;
+        final var last = to - needle.length;
+        final var firstBytes = ByteVector.broadcast(SPECIES, needle[0]);
+        final var lastBytes = ByteVector.broadcast(SPECIES, needle[lastOffset]);
+
+        var i = from;
+        for (; i + SPECIES.length() - 1 <= last; i += SPECIES.length()) {
+            final var candidates = ByteVector.fromArray(SPECIES, bytes, i).eq(firstBytes)
+                    .and(ByteVector.fromArray(SPECIES, bytes, i + lastOffset).eq(lastBytes));
+            var bits = candidates.toLong();
+            while (bits != 0) {
+                final var position = i + Long.numberOfTrailingZeros(bits);
+                if (ScalarTextScan.matchesAt(bytes, position, needle)) {
+                    return position;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return i <= last ? SCALAR.indexOf(bytes, i, to, needle) : -1;
+    }
+}